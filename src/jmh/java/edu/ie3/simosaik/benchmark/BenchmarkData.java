@@ -0,0 +1,132 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.benchmark;
+
+import static edu.ie3.simosaik.SimosaikUnits.*;
+import static edu.ie3.util.quantities.PowerSystemUnits.*;
+import static tech.units.indriya.unit.Units.RADIAN;
+
+import edu.ie3.datamodel.io.naming.timeseries.ColumnScheme;
+import edu.ie3.datamodel.models.result.NodeResult;
+import edu.ie3.datamodel.models.result.ResultEntity;
+import edu.ie3.datamodel.models.result.system.LoadResult;
+import edu.ie3.simona.api.mapping.DataType;
+import edu.ie3.simona.api.mapping.ExtEntityEntry;
+import edu.ie3.simona.api.mapping.ExtEntityMapping;
+import edu.ie3.simosaik.utils.EntityIndex;
+import java.time.ZonedDateTime;
+import java.util.*;
+import tech.units.indriya.quantity.Quantities;
+
+/** Synthetic data that is used by the benchmarks. */
+public final class BenchmarkData {
+
+  public static final ZonedDateTime TIME = ZonedDateTime.parse("2026-01-01T00:00:00Z");
+
+  private BenchmarkData() {
+    throw new Error("Do not instantiate utility class!");
+  }
+
+  /**
+   * Creates a synthetic mapping with the given number of primary and result entities. Primary
+   * entities alternate between active and apparent power, result entities between nodes and loads.
+   *
+   * @param entities number of entities per data type
+   * @return the synthetic data
+   */
+  public static Data create(int entities) {
+    Random random = new Random(42);
+
+    List<ExtEntityEntry> entries = new ArrayList<>();
+    Map<String, ColumnScheme> primaryType = new HashMap<>();
+    Map<String, Object> inputs = new HashMap<>();
+    Map<UUID, List<ResultEntity>> results = new HashMap<>();
+    Map<String, List<String>> requestedAttributes = new HashMap<>();
+
+    for (int i = 0; i < entities; i++) {
+      String id = "primary_" + i;
+      UUID uuid = new UUID(1L, i);
+      ColumnScheme scheme = i % 2 == 0 ? ColumnScheme.ACTIVE_POWER : ColumnScheme.APPARENT_POWER;
+
+      entries.add(new ExtEntityEntry(uuid, id, Optional.of(scheme), DataType.PRIMARY));
+      primaryType.put(id, scheme);
+
+      Map<String, Object> attrToData = new HashMap<>();
+      attrToData.put(ACTIVE_POWER, Map.of("src." + i, random.nextDouble()));
+
+      if (scheme == ColumnScheme.APPARENT_POWER) {
+        attrToData.put(REACTIVE_POWER, Map.of("src." + i, random.nextDouble()));
+      }
+
+      inputs.put(id, attrToData);
+    }
+
+    for (int i = 0; i < entities; i++) {
+      String id = "result_" + i;
+      UUID uuid = new UUID(2L, i);
+
+      entries.add(new ExtEntityEntry(uuid, id, Optional.empty(), DataType.RESULT));
+
+      boolean node = i % 2 == 0;
+      results.put(uuid, List.of(result(uuid, node, random)));
+      requestedAttributes.put(
+          id, node ? List.of(VOLTAGE_MAG, VOLTAGE_ANG) : List.of(ACTIVE_POWER, REACTIVE_POWER));
+    }
+
+    ExtEntityMapping mapping = new ExtEntityMapping(entries);
+
+    return new Data(
+        mapping,
+        EntityIndex.build(mapping, primaryType),
+        primaryType,
+        inputs,
+        results,
+        requestedAttributes);
+  }
+
+  /**
+   * Creates a synthetic result with random values for the given entity.
+   *
+   * @param uuid of the entity
+   * @param node if true, a node result is created, else a load result
+   * @param random for the values of the result
+   * @return the result
+   */
+  public static ResultEntity result(UUID uuid, boolean node, Random random) {
+    if (node) {
+      return new NodeResult(
+          TIME,
+          uuid,
+          Quantities.getQuantity(0.95 + 0.1 * random.nextDouble(), PU),
+          Quantities.getQuantity(random.nextDouble(), RADIAN));
+    }
+
+    return new LoadResult(
+        TIME,
+        uuid,
+        Quantities.getQuantity(random.nextDouble(), MEGAWATT),
+        Quantities.getQuantity(random.nextDouble(), MEGAVAR));
+  }
+
+  /**
+   * Synthetic data.
+   *
+   * @param mapping entity mapping containing all primary and result entities
+   * @param index of the mapping
+   * @param primaryType map: primary entity id to column scheme
+   * @param inputs mosaik inputs for all primary entities
+   * @param results SIMONA results for all result entities
+   * @param requestedAttributes mosaik output request for all result entities
+   */
+  public record Data(
+      ExtEntityMapping mapping,
+      EntityIndex index,
+      Map<String, ColumnScheme> primaryType,
+      Map<String, Object> inputs,
+      Map<UUID, List<ResultEntity>> results,
+      Map<String, List<String>> requestedAttributes) {}
+}
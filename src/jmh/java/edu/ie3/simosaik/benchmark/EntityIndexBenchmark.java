@@ -0,0 +1,70 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.benchmark;
+
+import edu.ie3.datamodel.io.naming.timeseries.ColumnScheme;
+import edu.ie3.simona.api.mapping.ExtEntityMapping;
+import edu.ie3.simosaik.utils.EntityIndex;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks the resolution of ids and uuids by the mapping and by the entity index. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EntityIndexBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int entities;
+
+  private ExtEntityMapping mapping;
+  private Map<String, ColumnScheme> primaryType;
+  private EntityIndex index;
+  private String[] ids;
+  private UUID[] uuids;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkData.Data data = BenchmarkData.create(entities);
+    mapping = data.mapping();
+    primaryType = data.primaryType();
+    index = data.index();
+
+    ids = data.inputs().keySet().toArray(new String[0]);
+    uuids = data.results().keySet().toArray(new UUID[0]);
+  }
+
+  @Benchmark
+  public void resolveWithMapping(Blackhole blackhole) {
+    for (String id : ids) {
+      blackhole.consume(mapping.from(id));
+    }
+
+    for (UUID uuid : uuids) {
+      blackhole.consume(mapping.from(uuid));
+    }
+  }
+
+  @Benchmark
+  public void resolveWithIndex(Blackhole blackhole) {
+    for (String id : ids) {
+      blackhole.consume(index.from(id));
+    }
+
+    for (UUID uuid : uuids) {
+      blackhole.consume(index.from(uuid));
+    }
+  }
+
+  @Benchmark
+  public EntityIndex build() {
+    return EntityIndex.build(mapping, primaryType);
+  }
+}
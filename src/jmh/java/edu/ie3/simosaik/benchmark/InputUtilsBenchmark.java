@@ -0,0 +1,38 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.benchmark;
+
+import edu.ie3.simona.api.data.container.ExtInputContainer;
+import edu.ie3.simosaik.utils.InputUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Benchmarks the conversion of mosaik inputs into SIMONA inputs. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class InputUtilsBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int entities;
+
+  @Param({"false", "true"})
+  public boolean parallel;
+
+  private BenchmarkData.Data data;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    data = BenchmarkData.create(entities);
+  }
+
+  @Benchmark
+  public ExtInputContainer createInput() {
+    return InputUtils.createInput(
+        0L, data.index(), data.inputs(), parallel ? 0 : Integer.MAX_VALUE);
+  }
+}
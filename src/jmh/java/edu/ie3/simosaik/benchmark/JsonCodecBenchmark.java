@@ -0,0 +1,84 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.benchmark;
+
+import edu.ie3.simona.api.data.container.ExtOutputContainer;
+import edu.ie3.simosaik.transport.JsonReader;
+import edu.ie3.simosaik.transport.JsonWriter;
+import edu.ie3.simosaik.utils.OutputPlan;
+import edu.ie3.simosaik.utils.OutputUtils;
+import edu.ie3.simosaik.utils.ResultBuffer;
+import edu.ie3.simosaik.utils.TickArena;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks the json codec of the mosaik transport against json-simple, that is used by
+ * mosaik-api-java. The read message is a step request and the written message is the reply to a get
+ * data request, each with 10k entities.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+  @Param({"10000"})
+  public int entities;
+
+  private byte[] stepRequest;
+  private List<Object> dataReply;
+
+  private final JsonReader reader = new JsonReader();
+  private final JsonWriter writer = new JsonWriter();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkData.Data data = BenchmarkData.create(entities);
+
+    List<Object> step = List.of("step", List.of(0L, data.inputs(), 3600L), Map.of());
+    stepRequest = JSONValue.toJSONString(List.of(0, 1, step)).getBytes(StandardCharsets.UTF_8);
+
+    ExtOutputContainer container = new ExtOutputContainer(0L, OptionalLong.of(900L));
+    container.addResults(data.results());
+
+    OutputPlan plan = OutputPlan.compile(data.requestedAttributes(), data.index());
+    ResultBuffer buffer = ResultBuffer.of(data.index(), data.results());
+    Map<String, Object> output =
+        OutputUtils.createOutput(container, buffer, plan, 0L, Integer.MAX_VALUE, new TickArena());
+
+    dataReply = Arrays.asList(1, 2, output);
+  }
+
+  @Benchmark
+  public Object readStepJsonSimple() throws ParseException {
+    return new JSONParser().parse(new String(stepRequest, StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public Object readStepSimosaik() throws IOException {
+    return reader.parse(ByteBuffer.wrap(stepRequest));
+  }
+
+  @Benchmark
+  public byte[] writeDataJsonSimple() {
+    return JSONValue.toJSONString(dataReply).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public ByteBuffer writeDataSimosaik() {
+    writer.begin(4);
+    writer.write(dataReply);
+    return writer.finish();
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.benchmark;
+
+import edu.ie3.simona.api.data.container.ExtOutputContainer;
+import edu.ie3.simona.api.simulation.ExtCoSimFramework;
+import edu.ie3.simosaik.MosaikSimulator;
+import edu.ie3.simosaik.SimonaEntity;
+import java.util.*;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks a full tick of the {@link MosaikSimulator}, i.e. {@code step}, {@code getStatus},
+ * {@code provideOutputData} and {@code getData}. The SIMONA side is simulated by a thread, that
+ * answers every input with the synthetic results.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MosaikSimulatorBenchmark {
+  private static final long STEP_SIZE = 900L;
+
+  @Param({"1000", "10000", "100000"})
+  public int entities;
+
+  @Param({"park"})
+  public String waitStrategy;
+
+  private BenchmarkData.Data data;
+  private MosaikSimulator simulator;
+  private Thread simona;
+  private long time;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    data = BenchmarkData.create(entities);
+
+    simulator = new MosaikSimulator(data.mapping(), () -> {});
+    simulator.setInitDataQueue(new LinkedBlockingQueue<>());
+
+    Map<String, Object> simParams = new HashMap<>();
+    simParams.put("step_size", STEP_SIZE);
+    simParams.put("wait_strategy", waitStrategy);
+    simParams.put("models", List.of(SimonaEntity.PRIMARY_PQ.name, SimonaEntity.RESULTS.name));
+    simulator.init("SimonaPowerGrid", 1d, simParams);
+
+    simulator.create(
+        entities,
+        SimonaEntity.PRIMARY_PQ.name,
+        Map.of("use", new ArrayList<>(data.primaryType().keySet())));
+    simulator.create(
+        entities,
+        SimonaEntity.RESULTS.name,
+        Map.of("use", new ArrayList<>(data.requestedAttributes().keySet())));
+    simulator.setupDone();
+
+    simona = new Thread(this::simona, "simona");
+    simona.setDaemon(true);
+    simona.start();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    simona.interrupt();
+    simona.join();
+  }
+
+  @Benchmark
+  public Map<String, Object> tick() throws Exception {
+    simulator.step(time, data.inputs(), Long.MAX_VALUE);
+    time += STEP_SIZE;
+
+    return simulator.getData(data.requestedAttributes());
+  }
+
+  /** Simulates the SIMONA side of the exchange. */
+  private void simona() {
+    long tick = 0L;
+
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        if (simulator.getStatus(tick) instanceof ExtCoSimFramework.HasData) {
+          ExtOutputContainer output =
+              new ExtOutputContainer(tick, OptionalLong.of(tick + STEP_SIZE));
+          output.addResults(data.results());
+
+          simulator.provideOutputData(output);
+        } else {
+          simulator.goToNextTick(tick);
+        }
+
+        tick += STEP_SIZE;
+      }
+    } catch (InterruptedException ignored) {
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.benchmark;
+
+import edu.ie3.simona.api.data.container.ExtOutputContainer;
+import edu.ie3.simosaik.utils.OutputPlan;
+import edu.ie3.simosaik.utils.OutputUtils;
+import edu.ie3.simosaik.utils.ResultBuffer;
+import edu.ie3.simosaik.utils.TickArena;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Benchmarks the conversion of SIMONA outputs into mosaik outputs. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OutputUtilsBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int entities;
+
+  private BenchmarkData.Data data;
+  private ExtOutputContainer container;
+  private OutputPlan plan;
+  private ResultBuffer buffer;
+  private final TickArena arena = new TickArena();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    data = BenchmarkData.create(entities);
+
+    container = new ExtOutputContainer(0L, OptionalLong.of(900L));
+    container.addResults(data.results());
+
+    plan = OutputPlan.compile(data.requestedAttributes(), data.index());
+    buffer = ResultBuffer.of(data.index(), data.results());
+  }
+
+  @Benchmark
+  public Map<String, Object> createOutput() {
+    return OutputUtils.createOutput(container, data.requestedAttributes(), 0L, data.mapping());
+  }
+
+  @Benchmark
+  public Map<String, Object> createOutputWithCachedPlan() {
+    if (!plan.matches(data.requestedAttributes())) {
+      throw new IllegalStateException("The request shape should not change!");
+    }
+
+    return OutputUtils.createOutput(container, plan, 0L, data.index(), Integer.MAX_VALUE);
+  }
+
+  @Benchmark
+  public ResultBuffer fillResultBuffer() {
+    buffer.fill(data.results());
+    return buffer;
+  }
+
+  @Benchmark
+  public Map<String, Object> createOutputFromBuffer() {
+    return OutputUtils.createOutput(container, buffer, plan, 0L, Integer.MAX_VALUE);
+  }
+
+  @Benchmark
+  public Map<String, Object> createOutputFromBufferWithArena() {
+    return OutputUtils.createOutput(container, buffer, plan, 0L, Integer.MAX_VALUE, arena);
+  }
+
+  @Benchmark
+  public Map<String, Object> createOutputParallel() {
+    return OutputUtils.createOutput(container, plan, 0L, data.index(), 0);
+  }
+
+  @Benchmark
+  public Map<String, Object> onlyTickInformation() {
+    return OutputUtils.onlyTickInformation(data.requestedAttributes(), 900L);
+  }
+}
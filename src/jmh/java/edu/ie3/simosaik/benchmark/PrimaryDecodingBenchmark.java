@@ -0,0 +1,91 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.benchmark;
+
+import static edu.ie3.simosaik.SimosaikUnits.*;
+
+import edu.ie3.datamodel.io.naming.timeseries.ColumnScheme;
+import edu.ie3.simona.api.data.container.ExtInputContainer;
+import edu.ie3.simona.api.mapping.DataType;
+import edu.ie3.simona.api.mapping.ExtEntityEntry;
+import edu.ie3.simona.api.mapping.ExtEntityMapping;
+import edu.ie3.simosaik.SimonaEntity;
+import edu.ie3.simosaik.utils.EntityIndex;
+import edu.ie3.simosaik.utils.InputUtils;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks the decoding of primary data for 100k primary assets, that are equally split between
+ * the four primary models. The time and, with {@code -prof gc}, the allocated bytes are reported
+ * per asset.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PrimaryDecodingBenchmark {
+  private static final int ASSETS = 100_000;
+
+  private static final SimonaEntity[] MODELS = {
+    SimonaEntity.PRIMARY_P,
+    SimonaEntity.PRIMARY_PQ,
+    SimonaEntity.PRIMARY_PH,
+    SimonaEntity.PRIMARY_PQH
+  };
+
+  private static final ColumnScheme[] SCHEMES = {
+    ColumnScheme.ACTIVE_POWER,
+    ColumnScheme.APPARENT_POWER,
+    ColumnScheme.ACTIVE_POWER_AND_HEAT_DEMAND,
+    ColumnScheme.APPARENT_POWER_AND_HEAT_DEMAND
+  };
+
+  private EntityIndex index;
+  private Map<String, Object> inputs;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random random = new Random(42);
+
+    List<ExtEntityEntry> entries = new ArrayList<>();
+    Map<String, ColumnScheme> primaryType = new HashMap<>();
+    Map<String, SimonaEntity> modelTypes = new HashMap<>();
+    inputs = new HashMap<>();
+
+    for (int i = 0; i < ASSETS; i++) {
+      String id = "primary_" + i;
+      SimonaEntity model = MODELS[i % MODELS.length];
+      ColumnScheme scheme = SCHEMES[i % SCHEMES.length];
+
+      entries.add(new ExtEntityEntry(new UUID(1L, i), id, Optional.of(scheme), DataType.PRIMARY));
+      primaryType.put(id, scheme);
+      modelTypes.put(id, model);
+
+      Map<String, Object> attrToData = new HashMap<>();
+      attrToData.put(ACTIVE_POWER, Map.of("src." + i, random.nextDouble()));
+
+      if (model == SimonaEntity.PRIMARY_PQ || model == SimonaEntity.PRIMARY_PQH) {
+        attrToData.put(REACTIVE_POWER, Map.of("src." + i, random.nextDouble()));
+      }
+
+      if (model == SimonaEntity.PRIMARY_PH || model == SimonaEntity.PRIMARY_PQH) {
+        attrToData.put(THERMAL_POWER, Map.of("src." + i, random.nextDouble()));
+      }
+
+      inputs.put(id, attrToData);
+    }
+
+    index = EntityIndex.build(new ExtEntityMapping(entries), primaryType, modelTypes);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ASSETS)
+  public ExtInputContainer decodePrimary() {
+    return InputUtils.createInput(0L, index, inputs, Integer.MAX_VALUE);
+  }
+}
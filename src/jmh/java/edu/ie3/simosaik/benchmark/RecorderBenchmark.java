@@ -0,0 +1,108 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.benchmark;
+
+import edu.ie3.simona.api.data.container.ExtOutputContainer;
+import edu.ie3.simosaik.recording.ExchangeRecorder;
+import edu.ie3.simosaik.utils.OutputPlan;
+import edu.ie3.simosaik.utils.OutputUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks the recording of the exchanges with mosaik. Each operation records one tick, which
+ * consists of the step inputs, the next tick and a get data request with its response. The size of
+ * the log per tick is reported by {@link #writeTick(LogSize)} as secondary result {@code
+ * bytesPerTick}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RecorderBenchmark {
+
+  @Param({"10000"})
+  public int entities;
+
+  private BenchmarkData.Data data;
+  private Map<String, Object> response;
+
+  private Path file;
+  private ExchangeRecorder recorder;
+  private long ticks;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    data = BenchmarkData.create(entities);
+
+    ExtOutputContainer container = new ExtOutputContainer(0L, OptionalLong.of(900L));
+    container.addResults(data.results());
+
+    response =
+        OutputUtils.createOutput(
+            container,
+            OutputPlan.compile(data.requestedAttributes(), data.index()),
+            0L,
+            data.index());
+  }
+
+  @Setup(Level.Iteration)
+  public void open() throws IOException {
+    file = Files.createTempFile("simosaik", ".log");
+    recorder = ExchangeRecorder.open(file);
+    ticks = 0;
+  }
+
+  @TearDown(Level.Iteration)
+  public void close() throws IOException {
+    recorder.close();
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Cost for the mosaik thread, that only enqueues the tick. Once the queue is full, the mosaik
+   * thread waits for the writer thread.
+   */
+  @Benchmark
+  public void enqueueTick() {
+    recordTick();
+  }
+
+  /** Cost of encoding and writing a tick. */
+  @Benchmark
+  public void writeTick(LogSize size) throws InterruptedException {
+    recordTick();
+    recorder.flush();
+
+    size.bytesPerTick = (double) recorder.bytesWritten() / ticks;
+  }
+
+  private void recordTick() {
+    long time = ticks * 900L;
+
+    recorder.recordStep(time, time + 900L, data.inputs());
+    recorder.recordNextTick(time, time + 900L);
+    recorder.recordGetData(time, data.requestedAttributes(), response);
+    ticks++;
+  }
+
+  /** Size of the log per tick, that is reported by JMH next to the primary result. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class LogSize {
+    public double bytesPerTick;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytesPerTick = 0d;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.benchmark;
+
+import edu.ie3.simosaik.synchronization.TickRendezvous;
+import edu.ie3.simosaik.synchronization.WaitStrategy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Benchmarks the round trip latency of the {@link TickRendezvous} for all wait strategies. */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RendezvousBenchmark {
+
+  @Param({"BUSY_SPIN", "SPIN_THEN_YIELD", "PARK"})
+  public WaitStrategy waitStrategy;
+
+  private TickRendezvous<Long, Long> rendezvous;
+  private Thread simona;
+  private long tick;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    rendezvous = new TickRendezvous<>(waitStrategy);
+
+    // echos every input, like SIMONA would answer every tick
+    simona =
+        new Thread(
+            () -> {
+              try {
+                while (!Thread.currentThread().isInterrupted()) {
+                  rendezvous.provideOutput(rendezvous.awaitInput() + 1);
+                }
+              } catch (InterruptedException ignored) {
+              }
+            },
+            "simona-echo");
+    simona.setDaemon(true);
+    simona.start();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws InterruptedException {
+    simona.interrupt();
+    simona.join();
+  }
+
+  @Benchmark
+  public long roundTrip() throws InterruptedException {
+    return rendezvous.exchange(tick++);
+  }
+}
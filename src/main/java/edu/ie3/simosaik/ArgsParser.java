@@ -6,8 +6,9 @@
 
 package edu.ie3.simosaik;
 
-import java.util.HashMap;
-import java.util.Map;
+import edu.ie3.simosaik.transport.Transport;
+import java.nio.file.Path;
+import java.util.*;
 
 /** Simple parser for the cli arguments. */
 public class ArgsParser {
@@ -16,9 +17,19 @@ public class ArgsParser {
    * Parsed arguments.
    *
    * @param mainArgs provided arguments
-   * @param mosaikIP the IP of the socket
+   * @param mosaikIP the IP of the socket, {@code null} if a log is replayed, multiple
+   *     comma-separated addresses for multiple shards
+   * @param replay option for an exchange log, that is replayed instead of connecting to mosaik
+   * @param transport used for the connection with mosaik
    */
-  public record Arguments(String[] mainArgs, String mosaikIP) {}
+  public record Arguments(
+      String[] mainArgs, String mosaikIP, Optional<Path> replay, Transport transport) {
+
+    /** Returns the addresses of all mosaik sockets, one for each shard. */
+    public List<String> mosaikAddresses() {
+      return Arrays.stream(mosaikIP.split(",")).map(String::trim).toList();
+    }
+  }
 
   /**
    * Method for parsing the provided arguments.
@@ -34,9 +45,15 @@ public class ArgsParser {
       parsedArgs.put(key_value[0], key_value[1]);
     }
 
-    String mosaikIP = extract(parsedArgs, "--ext-address");
+    Optional<Path> replay = Optional.ofNullable(parsedArgs.get("--replay")).map(Path::of);
+
+    // no mosaik connection is needed for a replay
+    String mosaikIP = replay.isEmpty() ? extract(parsedArgs, "--ext-address") : null;
+
+    Transport transport =
+        Transport.parse(parsedArgs.getOrDefault("--transport", Transport.MOSAIK_API.name));
 
-    return new Arguments(args, mosaikIP);
+    return new Arguments(args, mosaikIP, replay, transport);
   }
 
   /**
@@ -26,8 +26,17 @@ import edu.ie3.simosaik.initialization.InitializationData;
 import edu.ie3.simosaik.initialization.InitializationData.ModelData;
 import edu.ie3.simosaik.initialization.InitializationData.SimulatorData;
 import edu.ie3.simosaik.initialization.InitializationData.TickInformation;
-import edu.ie3.simosaik.utils.ConfigurableLogger;
+import edu.ie3.simosaik.logging.SimosaikLogger;
+import edu.ie3.simosaik.metrics.Phase;
+import edu.ie3.simosaik.metrics.TickMetrics;
+import edu.ie3.simosaik.synchronization.InputSchedule;
+import edu.ie3.simosaik.utils.AdaptiveStep;
+import edu.ie3.simosaik.utils.ResultSubscription;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,7 +51,19 @@ public class MosaikSimulation extends ExtCoSimulation<InitializationData> {
   protected final boolean sendUnchangedResults;
   private long nextEmTick = 0;
 
-  private final ConfigurableLogger logger;
+  private final SimosaikLogger logger;
+  private final TickMetrics metrics;
+  private final ResultSubscription resultSubscription;
+
+  // schedule of the next inputs of mosaik, null if idle ticks are not skipped
+  private final InputSchedule inputSchedule;
+
+  // controller of the interval between exchanges, null if the step size is fixed
+  private final AdaptiveStep adaptiveStep;
+
+  // executor for requesting results concurrently, null if the exchange is sequential
+  private final ExecutorService resultRequester;
+
   public boolean run = true;
   private long lastFinishedTick = -1L;
 
@@ -62,7 +83,20 @@ public class MosaikSimulation extends ExtCoSimulation<InitializationData> {
       SimulatorData simulatorData = getInitData(SimulatorData.class);
 
       this.sendUnchangedResults = simulatorData.sendUnchangedResults();
-      this.logger = new ConfigurableLogger(simulatorData.debugFlag(), log);
+      this.logger = new SimosaikLogger(simulatorData.debugFlag(), log);
+      this.metrics = simulatorData.metrics();
+      this.resultSubscription = simulatorData.resultSubscription();
+      this.inputSchedule = simulatorData.fastForward().orElse(null);
+      this.adaptiveStep = simulatorData.adaptiveStep().orElse(null);
+      this.resultRequester =
+          simulatorData.concurrentExchange()
+              ? Executors.newSingleThreadExecutor(
+                  runnable -> {
+                    Thread thread = new Thread(runnable, "simosaik-result-request");
+                    thread.setDaemon(true);
+                    return thread;
+                  })
+              : null;
 
       ModelData modelData = getInitData(ModelData.class);
 
@@ -94,6 +128,14 @@ public class MosaikSimulation extends ExtCoSimulation<InitializationData> {
         this.extResultDataConnection = null;
       }
 
+      if (adaptiveStep != null
+          && adaptiveStep.watchesResults()
+          && extResultDataConnection == null) {
+        log.warn(
+            "The adaptive step watches voltages or currents, but no results are requested from"
+                + " SIMONA! The step size only depends on the em set points.");
+      }
+
     } catch (InterruptedException e) {
       throw new RuntimeException(e);
     }
@@ -135,16 +177,26 @@ public class MosaikSimulation extends ExtCoSimulation<InitializationData> {
     OptionalLong maybeNextTick = OptionalLong.of(determineNextTick(tick));
 
     Map<UUID, List<EmData>> emDataFromSIMONA = new HashMap<>();
+    OptionalLong completedEmTick = OptionalLong.empty();
     boolean sendAnyway = false;
 
+    // without em data, there is no ordering dependency between primary data and results
+    Future<Map<UUID, List<ResultEntity>>> pendingResults =
+        extEmDataConnection == null || !input.hasEmData() ? requestResultsAsync(tick) : null;
+
     if (extPrimaryDataConnection != null && input.hasPrimaryData()) {
+      long start = metrics.start();
       extPrimaryDataConnection.sendPrimaryData(
           tick, input.extractPrimaryData(), input.getMaybeNextTick(), log);
+      metrics.record(Phase.PRIMARY_DATA, start);
     }
 
     if (extEmDataConnection != null && input.hasEmData()) {
+      long start = metrics.start();
+
       if (tick > lastTick) {
         extEmDataConnection.simulateInternal(tick);
+        pendingResults = requestResultsAsync(tick);
         extEmDataConnection.receiveWithType(EmCompletion.class);
       } else {
 
@@ -165,12 +217,16 @@ public class MosaikSimulation extends ExtCoSimulation<InitializationData> {
           extEmDataConnection.requestCompletion(tick, nextTick);
         }
 
+        // all em data is sent, the results can be requested while waiting for the response
+        pendingResults = requestResultsAsync(tick);
+
         EmDataResponseMessageToExt received = extEmDataConnection.receiveAny();
 
         switch (received) {
           case EmCompletion(OptionalLong maybeNextEmTick) -> {
             log.info("Next em tick: {}", maybeNextEmTick);
             maybeNextEmTick.ifPresent(emTick -> nextEmTick = emTick);
+            completedEmTick = maybeNextEmTick;
 
             maybeNextTick = getNextTickOption(maybeNextTick, maybeNextEmTick);
             sendAnyway = true;
@@ -179,12 +235,9 @@ public class MosaikSimulation extends ExtCoSimulation<InitializationData> {
             logger.info(
                 "Received completion for tick: {}. Next tick option: {}", tick, maybeNextTick);
           }
+          // only one response is received per tick, so the lists of SIMONA are used as they are
           case EmResultResponse(Map<UUID, List<EmData>> emResults) -> {
-            emResults.forEach(
-                (receiver, data) ->
-                    emDataFromSIMONA
-                        .computeIfAbsent(receiver, k -> new ArrayList<>())
-                        .addAll(data));
+            emDataFromSIMONA.putAll(emResults);
 
             if (emDataFromSIMONA.isEmpty()) {
               sendAnyway = true;
@@ -200,12 +253,20 @@ public class MosaikSimulation extends ExtCoSimulation<InitializationData> {
           case FlexOptionsResponse(Map<UUID, List<FlexOptions>> receiverToFlexOptions) ->
               receiverToFlexOptions.forEach(
                   (receiver, data) ->
-                      emDataFromSIMONA
-                          .computeIfAbsent(receiver, k -> new ArrayList<>())
-                          .addAll(data));
+                      emDataFromSIMONA.put(receiver, Collections.unmodifiableList(data)));
           default -> log.warn("Received unsupported data response: {}", received);
         }
       }
+
+      metrics.record(Phase.EM_DATA, start);
+    }
+
+    Map<UUID, List<ResultEntity>> results = awaitResults(tick, pendingResults);
+
+    if (adaptiveStep != null) {
+      // the interval depends on the results of this tick, so the next tick is determined again
+      adaptiveStep.update(results);
+      maybeNextTick = getNextTickOption(OptionalLong.of(determineNextTick(tick)), completedEmTick);
     }
 
     if (maybeNextTick.isPresent() && maybeNextTick.getAsLong() > lastTick) {
@@ -213,7 +274,7 @@ public class MosaikSimulation extends ExtCoSimulation<InitializationData> {
     }
 
     ExtOutputContainer container = new ExtOutputContainer(tick, maybeNextTick);
-    container.addResults(requestResults(tick));
+    container.addResults(resultSubscription.filter(results));
     container.addEmData(emDataFromSIMONA);
 
     if (!container.isEmpty() || sendAnyway) {
@@ -224,18 +285,29 @@ public class MosaikSimulation extends ExtCoSimulation<InitializationData> {
   }
 
   public final ExtOutputContainer handleNoExternalData(long tick) throws InterruptedException {
+    Future<Map<UUID, List<ResultEntity>>> pendingResults = null;
+
     if (extEmDataConnection != null && tick == nextEmTick) {
       log.warn("Internal em simulation ...");
+      long start = metrics.start();
       extEmDataConnection.simulateInternal(tick);
+      pendingResults = requestResultsAsync(tick);
       extEmDataConnection
           .receiveWithType(EmCompletion.class)
           .maybeNextTick()
           .ifPresent(emTick -> nextEmTick = emTick);
+      metrics.record(Phase.EM_DATA, start);
+    }
+
+    Map<UUID, List<ResultEntity>> results = awaitResults(tick, pendingResults);
+
+    if (adaptiveStep != null) {
+      adaptiveStep.update(results);
     }
 
     ExtOutputContainer container =
         new ExtOutputContainer(tick, OptionalLong.of(determineNextTick(tick)));
-    container.addResults(requestResults(tick));
+    container.addResults(resultSubscription.filter(results));
 
     return container;
   }
@@ -244,11 +316,49 @@ public class MosaikSimulation extends ExtCoSimulation<InitializationData> {
   public final void finishSimulation(long tick) throws InterruptedException {
     log.info("Mosaik is finished! The external simulation will not be activated anymore!");
     simulateEmInternally(tick);
+
+    if (resultRequester != null) {
+      resultRequester.shutdownNow();
+    }
   }
 
   @Override
   public long determineNextTick(long tick) {
-    return Math.floorDiv(tick + stepSize, stepSize) * stepSize;
+    long nextStep = Math.floorDiv(tick + stepSize, stepSize) * stepSize;
+
+    if (adaptiveStep != null) {
+      nextStep = adaptiveStep.nextTick(tick, nextStep, stepSize, lastTick);
+    }
+
+    return inputSchedule != null ? nextActivityTick(tick, nextStep) : nextStep;
+  }
+
+  /**
+   * Determines the next tick, in which either mosaik can send new inputs or the em agents of SIMONA
+   * are activated. All ticks in between are skipped up to the last tick. After the last tick, the
+   * regular next step is returned, if no activity is known.
+   *
+   * @param tick current tick
+   * @param nextStep regular next step
+   * @return the next tick with activity
+   */
+  private long nextActivityTick(long tick, long nextStep) {
+    long nextTick = inputSchedule.nextInputTick();
+
+    if (extEmDataConnection != null && nextEmTick > tick) {
+      nextTick = Math.min(nextTick, nextEmTick);
+    }
+
+    if (lastTick > tick) {
+      nextTick = Math.min(nextTick, lastTick);
+    }
+
+    if (nextTick == InputSchedule.NO_INPUT) {
+      return nextStep;
+    }
+
+    // the next tick needs to be after the current tick
+    return Math.max(nextTick, tick + 1);
   }
 
   @Override
@@ -256,21 +366,80 @@ public class MosaikSimulation extends ExtCoSimulation<InitializationData> {
     return lastFinishedTick < tick && run;
   }
 
+  /**
+   * Requests the results of all assets. The connection can only provide the results of all assets,
+   * so unsubscribed results are dropped after the adaptive step has seen them.
+   */
   private Map<UUID, List<ResultEntity>> requestResults(long tick) throws InterruptedException {
     Map<UUID, List<ResultEntity>> resultsToBeSend = new HashMap<>();
 
-    if (extResultDataConnection != null) {
+    if (isRequestingResults()) {
+      long start = metrics.start();
       boolean includeUnchanged = sendUnchangedResults; // && !hasSentResults;
 
       resultsToBeSend.putAll(extResultDataConnection.requestResults(tick, includeUnchanged));
+      metrics.record(Phase.RESULT_REQUEST, start);
 
       logger.info(
-          "Results (includeUnchanged={}) to be send: {}", includeUnchanged, resultsToBeSend);
+          "Results (includeUnchanged={}) to be send for {} assets.",
+          includeUnchanged,
+          resultsToBeSend.size());
+      logger.debug("Results to be send: {}", resultsToBeSend);
     }
 
     return resultsToBeSend;
   }
 
+  /**
+   * Requests the results for the given tick on the result request thread.
+   *
+   * @param tick for which results are requested
+   * @return the pending results or {@code null}, if the exchange is sequential
+   */
+  private Future<Map<UUID, List<ResultEntity>>> requestResultsAsync(long tick) {
+    if (resultRequester == null || !isRequestingResults()) {
+      return null;
+    }
+
+    return resultRequester.submit(() -> requestResults(tick));
+  }
+
+  /**
+   * Returns true, if results are requested from SIMONA. This is the case, if mosaik is subscribed
+   * to any results or the adaptive step watches them.
+   */
+  private boolean isRequestingResults() {
+    return extResultDataConnection != null
+        && (!resultSubscription.isEmpty()
+            || (adaptiveStep != null && adaptiveStep.watchesResults()));
+  }
+
+  /**
+   * Waits for the pending results. If no results are pending, the results are requested directly.
+   *
+   * @param tick for which results are requested
+   * @param pendingResults results requested by {@link #requestResultsAsync(long)} or {@code null}
+   * @return the results
+   */
+  private Map<UUID, List<ResultEntity>> awaitResults(
+      long tick, Future<Map<UUID, List<ResultEntity>>> pendingResults) throws InterruptedException {
+    if (pendingResults == null) {
+      return requestResults(tick);
+    }
+
+    try {
+      return pendingResults.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof InterruptedException interrupted) {
+        throw interrupted;
+      } else if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
   private void simulateEmInternally(long tick) throws InterruptedException {
     if (extEmDataConnection != null) {
       // to prevent em agents from blocking the scheduler
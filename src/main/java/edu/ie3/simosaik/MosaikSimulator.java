@@ -20,20 +20,37 @@ import edu.ie3.simona.api.mapping.ExtEntityEntry;
 import edu.ie3.simona.api.mapping.ExtEntityMapping;
 import edu.ie3.simona.api.simulation.ExtCoSimFramework;
 import edu.ie3.simosaik.initialization.InitializationData;
-import edu.ie3.simosaik.utils.ConfigurableLogger;
+import edu.ie3.simosaik.logging.PayloadLogger;
+import edu.ie3.simosaik.logging.SimosaikLogger;
+import edu.ie3.simosaik.logging.TickSummary;
+import edu.ie3.simosaik.metrics.Phase;
+import edu.ie3.simosaik.metrics.TickMetrics;
+import edu.ie3.simosaik.recording.ExchangeRecorder;
+import edu.ie3.simosaik.recording.OverflowPolicy;
+import edu.ie3.simosaik.synchronization.MutableInputSchedule;
+import edu.ie3.simosaik.synchronization.TickRendezvous;
+import edu.ie3.simosaik.synchronization.WaitStrategy;
+import edu.ie3.simosaik.utils.AdaptiveStep;
+import edu.ie3.simosaik.utils.DeltaFilter;
+import edu.ie3.simosaik.utils.EntityIndex;
 import edu.ie3.simosaik.utils.InputUtils;
+import edu.ie3.simosaik.utils.MutableResultSubscription;
+import edu.ie3.simosaik.utils.OutputPlan;
 import edu.ie3.simosaik.utils.OutputUtils;
+import edu.ie3.simosaik.utils.ResultAggregator;
+import edu.ie3.simosaik.utils.ResultBuffer;
+import edu.ie3.simosaik.utils.TickArena;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
+import javax.management.JMException;
 import org.slf4j.LoggerFactory;
 
 /** The mosaik simulator that exchanges information with mosaik. */
 public class MosaikSimulator extends Simulator implements ExtCoSimFramework<InitializationData> {
-  private static final ConfigurableLogger log =
-      new ConfigurableLogger(false, LoggerFactory.getLogger(MosaikSimulator.class));
+  private static final SimosaikLogger log =
+      new SimosaikLogger(false, LoggerFactory.getLogger(MosaikSimulator.class));
   private final Logger logger = SimProcess.logger;
 
   private Queue<InitializationData> initDataQueue;
@@ -44,9 +61,43 @@ public class MosaikSimulator extends Simulator implements ExtCoSimFramework<Init
 
   private ExtEntityMapping mapping;
   private final Map<String, ColumnScheme> primaryType = new HashMap<>();
+  private final Map<String, SimonaEntity> modelTypes = new HashMap<>();
+
+  // frozen index of all entities, built after all entities are created
+  private EntityIndex index;
 
   private ExtInputContainer currentInputData;
   private ExtOutputContainer currentOutputData;
+  private OutputPlan outputPlan;
+  private ResultBuffer resultBuffer;
+  private DeltaFilter deltaFilter;
+  private ResultAggregator resultAggregator;
+
+  // results mosaik is subscribed to, only updated if subscriptions are enabled
+  private final MutableResultSubscription resultSubscription = new MutableResultSubscription();
+  private boolean subscribeResults = false;
+  private int parallelDecodingThreshold = InputUtils.DEFAULT_PARALLEL_THRESHOLD;
+  private int parallelEncodingThreshold = OutputUtils.DEFAULT_PARALLEL_THRESHOLD;
+
+  // reused output maps, null if a new output is created for every tick
+  private TickArena arena;
+
+  // schedule of the next inputs, null if idle ticks are not skipped
+  private MutableInputSchedule inputSchedule;
+
+  // controller of the interval shared with SIMONA, null if the step size is fixed
+  private AdaptiveStep adaptiveStep;
+
+  private final TickMetrics metrics = new TickMetrics();
+  private Path metricsTimeline = Path.of("simosaik_timeline.csv");
+
+  // records all exchanges with mosaik, null if recording is disabled
+  private ExchangeRecorder recorder;
+
+  // full payloads are only logged asynchronously, each tick is summarized instead
+  private PayloadLogger payloads = PayloadLogger.disabled();
+  private final TickSummary summary = new TickSummary();
+  private long tickNumber = -1L;
 
   private long time;
   private long scaledTime;
@@ -55,12 +106,17 @@ public class MosaikSimulator extends Simulator implements ExtCoSimFramework<Init
   private boolean hasSendNextTick = false;
   private final Runnable stopper;
 
+  // shard, whose inputs depend on the data of other shards in the same tick
+  private boolean follower = false;
+
+  // true, if mosaik will not send any more inputs
+  private volatile boolean finished = false;
+
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
   // synchronization objects
-  private final ReentrantLock synchronizationLock = new ReentrantLock();
-  private final Condition waitForStatus = synchronizationLock.newCondition();
-  private final AtomicBoolean newStatusPresent = new AtomicBoolean(false);
-  private final Condition waitForResults = synchronizationLock.newCondition();
+  private final TickRendezvous<ExtInputContainer, ExtOutputContainer> rendezvous =
+      new TickRendezvous<>(WaitStrategy.PARK);
+  private volatile Runnable inputListener = () -> {};
 
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
 
@@ -81,6 +137,20 @@ public class MosaikSimulator extends Simulator implements ExtCoSimFramework<Init
     // scaling must be set first
     tickConverter = new TickConverter(timeResolution);
 
+    if (simParams.containsKey("record")) {
+      Path recordFile = Path.of((String) simParams.get("record"));
+
+      try {
+        OverflowPolicy overflow =
+            OverflowPolicy.parse((String) simParams.getOrDefault("record_overflow", "block"));
+        recorder = ExchangeRecorder.open(recordFile, ExchangeRecorder.DEFAULT_CAPACITY, overflow);
+        recorder.recordInit(sid, timeResolution, simParams);
+        logger.info("Recording all exchanges with mosaik to: " + recordFile.toAbsolutePath());
+      } catch (IOException e) {
+        throw new IllegalArgumentException("Cannot record to file: " + recordFile, e);
+      }
+    }
+
     List<Model> models = new ArrayList<>();
 
     // set up tick information
@@ -104,9 +174,80 @@ public class MosaikSimulator extends Simulator implements ExtCoSimFramework<Init
     boolean debugFlag = (boolean) simParams.getOrDefault("debug", false);
     log.setFlag(debugFlag);
 
+    if (simParams.containsKey("log_sample_rate")) {
+      log.setSampleRate((long) simParams.get("log_sample_rate"));
+    }
+
+    payloads = PayloadLogger.create(PayloadLogger.DEFAULT_CAPACITY);
+
     boolean sendUnchangedResults =
         (boolean) simParams.getOrDefault("send_unchanged_results", false);
 
+    boolean concurrentExchange = (boolean) simParams.getOrDefault("concurrent_exchange", false);
+
+    subscribeResults = (boolean) simParams.getOrDefault("result_subscription", false);
+
+    if (simParams.containsKey("output_tolerances")) {
+      deltaFilter = DeltaFilter.parse((Map<String, Object>) simParams.get("output_tolerances"));
+      logger.info("Only changed results are sent to mosaik.");
+    }
+
+    if (simParams.containsKey("result_aggregation")) {
+      resultAggregator =
+          ResultAggregator.parse(
+              (Map<String, Object>) simParams.get("result_aggregation"),
+              (String) simParams.get("simulation_start"));
+      logger.info("Results are aggregated between the exchanges with mosaik.");
+    }
+
+    if (simParams.containsKey("parallel_decoding_threshold")) {
+      parallelDecodingThreshold =
+          Math.toIntExact((long) simParams.get("parallel_decoding_threshold"));
+    }
+
+    if (simParams.containsKey("parallel_encoding_threshold")) {
+      parallelEncodingThreshold =
+          Math.toIntExact((long) simParams.get("parallel_encoding_threshold"));
+    }
+
+    if ((boolean) simParams.getOrDefault("reuse_output", false)) {
+      arena = new TickArena();
+      logger.info("The output maps are reused between ticks.");
+    }
+
+    if (simParams.containsKey("adaptive_step")) {
+      adaptiveStep =
+          AdaptiveStep.parse((Map<String, Object>) simParams.get("adaptive_step"), stepSize);
+      logger.info("The step size is adapted to the volatility of the results.");
+    }
+
+    if ((boolean) simParams.getOrDefault("fast_forward", false)) {
+      inputSchedule = new MutableInputSchedule();
+      logger.info("Idle ticks are skipped.");
+    }
+
+    follower = (boolean) simParams.getOrDefault("shard_follower", false);
+
+    if (simParams.containsKey("wait_strategy")) {
+      rendezvous.setWaitStrategy(WaitStrategy.parse((String) simParams.get("wait_strategy")));
+    }
+
+    if ((boolean) simParams.getOrDefault("metrics", false)) {
+      metrics.setEnabled(true);
+
+      if (simParams.containsKey("metrics_timeline")) {
+        metricsTimeline = Path.of((String) simParams.get("metrics_timeline"));
+      }
+
+      try {
+        metrics.register();
+      } catch (JMException e) {
+        logger.warning("Could not register tick metrics via JMX: " + e.getMessage());
+      }
+
+      logger.info("Tick metrics are enabled.");
+    }
+
     if (simParams.containsKey("models")) {
       List<String> modelTypes = (List<String>) simParams.get("models");
 
@@ -122,6 +263,15 @@ public class MosaikSimulator extends Simulator implements ExtCoSimFramework<Init
           "No models provided! Valid models are: " + Arrays.toString(SimonaEntity.values()));
     }
 
+    if (adaptiveStep != null
+        && adaptiveStep.watchesResults()
+        && !simonaEntities.containsKey(RESULTS)) {
+      throw new IllegalArgumentException(
+          "The adaptive step can only watch voltages and currents, if the model '"
+              + RESULTS.name
+              + "' is used!");
+    }
+
     // setting up the em mode
     Optional<ExtEmDataConnection.EmMode> emMode = Optional.empty();
 
@@ -133,13 +283,25 @@ public class MosaikSimulator extends Simulator implements ExtCoSimFramework<Init
 
     initDataQueue.add(
         new InitializationData.SimulatorData(
-            simonaEntities.containsKey(RESULTS), sendUnchangedResults, debugFlag, emMode));
+            simonaEntities.containsKey(RESULTS),
+            sendUnchangedResults,
+            debugFlag,
+            emMode,
+            metrics,
+            concurrentExchange,
+            resultSubscription,
+            Optional.ofNullable(inputSchedule),
+            Optional.ofNullable(adaptiveStep)));
     return createMeta(getType(simonaEntities.keySet()), models);
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public List<Map<String, Object>> create(int num, String model, Map<String, Object> modelParams) {
+    if (recorder != null) {
+      recorder.recordCreate(num, model, modelParams);
+    }
+
     List<Map<String, Object>> entities = new ArrayList<>();
 
     SimonaEntity modelType = SimonaEntity.parseType(model);
@@ -206,6 +368,7 @@ public class MosaikSimulator extends Simulator implements ExtCoSimFramework<Init
     ids.forEach(
         id -> {
           scheme.ifPresent(column -> primaryType.put(id, column));
+          modelTypes.put(id, modelType);
 
           Map<String, Object> entity = new HashMap<>();
           entity.put("eid", id);
@@ -229,6 +392,10 @@ public class MosaikSimulator extends Simulator implements ExtCoSimFramework<Init
 
   @Override
   public void setupDone() {
+    if (recorder != null) {
+      recorder.recordSetupDone();
+    }
+
     List<SimonaEntity> entities = new ArrayList<>();
 
     simonaEntities.forEach(
@@ -242,117 +409,227 @@ public class MosaikSimulator extends Simulator implements ExtCoSimFramework<Init
       logger.warning("The following models have not been initialized: " + entities);
     }
 
+    // the input decoder of each entity is selected by the model type it was created with
+    index = EntityIndex.build(mapping, primaryType, modelTypes);
+    logger.info("Indexed " + index.size() + " entities.");
+    resultBuffer = new ResultBuffer(index);
+
+    if (resultAggregator != null) {
+      resultBuffer.setAggregator(resultAggregator);
+    }
+
     initDataQueue.add(new InitializationData.ModelData(mapping));
   }
 
   @Override
   public long step(long time, Map<String, Object> inputs, long maxAdvance) throws Exception {
-    log.warn("[{}] Input: {}", time, inputs);
+    long stepStart = System.nanoTime();
+
+    if (recorder != null) {
+      recorder.recordStep(time, maxAdvance, inputs);
+    }
+
+    // the summary of the last tick is complete
+    logSummary();
+    tickNumber++;
+    summary.begin(time);
+
+    if (isSampled()) {
+      payloads.log(time, "Input", inputs);
+    }
 
     this.time = time;
 
     // updating the mosaik time
     this.scaledTime = tickConverter.toSimonaTick(time);
+    metrics.beginTick(scaledTime);
 
-    // the next tick we will expect data
-    // long nextTick = synchronizer.getNextTick();
-
-    logger.fine("[" + time + "] Got inputs from MOSAIK for tick = " + time + ". Inputs: " + inputs);
-
-    // log the expected next tick
-    // logger.info("[" + time + "] Expected next simulation tick = " + nextTick);
+    long start = metrics.start();
 
     if (!inputs.isEmpty()) {
-      logger.fine("[" + time + "] Sent converted input for tick " + time + " to SIMONA!");
-
-      this.currentInputData = InputUtils.createInput(scaledTime, mapping, inputs, primaryType);
+      this.currentInputData =
+          InputUtils.createInput(scaledTime, index, inputs, parallelDecodingThreshold);
     } else {
-      logger.info("[" + time + "] No inputs provided!");
+      log.info("[{}] No inputs provided!", time);
 
       this.currentInputData = new ExtInputContainer(scaledTime);
     }
 
-    // get the synchronization lock
-    while (!synchronizationLock.tryLock()) {
-      log.warn("MOSAIK: Waiting for synchronization lock.");
+    metrics.record(Phase.INPUT_DECODING, start);
+
+    if (inputSchedule != null) {
+      // mosaik cannot send new inputs before max advance + 1
+      inputSchedule.update(
+          maxAdvance < lastTick
+              ? tickConverter.toSimonaTick(maxAdvance + 1)
+              : MutableInputSchedule.NO_INPUT);
     }
 
-    // sent signal that status can be retrieved now
-    waitForStatus.signal();
-    newStatusPresent.set(true);
+    if (adaptiveStep != null) {
+      // the set points are compared before SIMONA determines the next tick
+      adaptiveStep.observeInputs(inputs);
+    }
+
+    // hand the input over to SIMONA and wait for results
+    start = metrics.start();
+    this.currentOutputData = rendezvous.exchange(currentInputData);
+    metrics.record(Phase.WAIT_FOR_RESULTS, start);
 
-    // wait for results
-    waitForResults.await();
-    newStatusPresent.set(false);
+    // the results are converted once per tick
+    start = metrics.start();
+    resultBuffer.fill(currentOutputData.getResults(), currentOutputData.getTick());
+    metrics.record(Phase.RESULT_CONVERSION, start);
 
     // getting the next tick, could have changed since last request
     OptionalLong maybeNextTick = currentOutputData.getMaybeNextTick();
 
     if (maybeNextTick.isPresent()) {
       long nextTick = tickConverter.toExtTick(maybeNextTick.getAsLong());
+
       hasNextTickChanged = nextTick != nextSimonaTick;
       nextSimonaTick = nextTick;
 
-      logger.fine("[" + time + "] Next tick: " + nextSimonaTick);
-      return nextSimonaTick;
+      log.debug("[{}] Next tick: {}", time, nextSimonaTick);
     } else {
-      logger.warning("[" + time + "] No next tick information provided!");
+      log.warnDirect("[{}] No next tick information provided!", time);
       nextSimonaTick = Long.MAX_VALUE;
     }
 
+    if (recorder != null) {
+      recorder.recordNextTick(time, nextSimonaTick);
+    }
+
+    summary.step(inputs.size(), resultBuffer.entityCount(), System.nanoTime() - stepStart);
     return nextSimonaTick;
   }
 
   @Override
   public Map<String, Object> getData(Map<String, List<String>> map) {
+    long start = System.nanoTime();
+    Map<String, Object> data = createData(map);
+
+    // reused output maps are changed by the next tick, but are written asynchronously
+    if (recorder != null) {
+      recorder.recordGetData(time, map, arena != null ? TickArena.copy(data) : data);
+    }
+
+    if (isSampled()) {
+      payloads.log(time, "Output", arena != null ? TickArena.copy(data) : data);
+    }
+
+    summary.getData(map.size(), data.size(), System.nanoTime() - start);
+    return data;
+  }
+
+  /** Returns true, if the payloads of the current tick should be logged. */
+  private boolean isSampled() {
+    return payloads.isEnabled() && log.isSampled(tickNumber);
+  }
+
+  private void logSummary() {
+    if (tickNumber >= 0 && log.isSampled(tickNumber)) {
+      summary.log(log);
+    }
+  }
+
+  private Map<String, Object> createData(Map<String, List<String>> map) {
     // requesting results from SIMONA
     // we will either get result for the current tick or no results, because SIMONA finished the
     // current tick
-    logger.info("[" + time + "] Got a request from MOSAIK to provide data!");
+    // mosaik usually sends the same request every tick, so the plan is only compiled on changes
+    if (outputPlan == null || !outputPlan.matches(map)) {
+      log.info("[{}] Compiling new output plan for {} entities.", time, map.size());
+      outputPlan = OutputPlan.compile(map, index);
+
+      if (subscribeResults) {
+        resultSubscription.update(outputPlan);
+        log.info("[{}] Updated result subscription: {}", time, resultSubscription);
+      }
+    }
 
-    if (!currentOutputData.isEmpty()) {
+    // aggregated results are sent on every exchange, even if SIMONA sent no new results
+    if (!currentOutputData.isEmpty() || resultBuffer.entityCount() > 0) {
       hasSendNextTick = false;
-      logger.fine("[" + time + "] Got results from SIMONA for MOSAIK!");
+
+      long start = metrics.start();
 
       Map<String, Object> data =
           OutputUtils.createOutput(
               currentOutputData,
-              map,
+              resultBuffer,
+              outputPlan,
               tickConverter.toExtTick(currentOutputData.getTick()),
-              mapping);
-
-      logger.fine(
-          "["
-              + time
-              + "] Converted results for MOSAIK! Now send it to MOSAIK! Data for MOSAIK: "
-              + data);
+              parallelEncodingThreshold,
+              arena,
+              deltaFilter);
 
+      metrics.record(Phase.OUTPUT_ENCODING, start);
       return data;
     } else if (hasNextTickChanged || !hasSendNextTick) {
       // we should output the next tick information for those entities, that are requesting this
       // information
-      logger.fine(
-          "["
-              + time
-              + "] Tick finished, sending only next tick information to mosaik. Next tick: "
-              + nextSimonaTick);
+      log.debug(
+          "[{}] Tick finished, sending only next tick information to mosaik. Next tick: {}",
+          time,
+          nextSimonaTick);
 
       // we set the no output flag to true, since we need to return an empty map for mosaik to
       // continue with the next tick
       hasSendNextTick = true;
-      return OutputUtils.onlyTickInformation(map, nextSimonaTick);
+      return OutputUtils.onlyTickInformation(outputPlan, nextSimonaTick);
     } else {
-      logger.info("[" + time + "] Got no results from SIMONA!");
+      log.debug("[{}] Got no results from SIMONA!", time);
       return Collections.emptyMap();
     }
   }
 
   @Override
   public void cleanup() {
+    logSummary();
+    payloads.close();
+
+    if (recorder != null) {
+      try {
+        recorder.close();
+        logger.info(
+            "Recorded "
+                + recorder.bytesWritten()
+                + " bytes to: "
+                + recorder.file().toAbsolutePath());
+      } catch (IOException e) {
+        logger.warning("Could not close the recording: " + e.getMessage());
+      }
+    }
+
+    if (metrics.isEnabled()) {
+      try {
+        metrics.writeTimeline(metricsTimeline);
+        logger.info("Wrote tick timeline to: " + metricsTimeline.toAbsolutePath());
+      } catch (IOException e) {
+        logger.warning("Could not write tick timeline: " + e.getMessage());
+      }
+
+      try {
+        metrics.unregister();
+      } catch (JMException e) {
+        logger.warning("Could not unregister tick metrics: " + e.getMessage());
+      }
+    }
+
+    finish();
+
     // stops the external simulation
     stopper.run();
   }
 
+  /** Marks this simulator as finished, since mosaik will not send any more inputs. */
+  void finish() {
+    finished = true;
+
+    // wakes up a coordinator waiting for this simulator
+    inputListener.run();
+  }
+
   @Override
   public String getName() {
     return getSimName();
@@ -365,42 +642,54 @@ public class MosaikSimulator extends Simulator implements ExtCoSimFramework<Init
 
   @Override
   public Status getStatus(long simonaTick) throws InterruptedException {
-    if (newStatusPresent.get()) {
-      newStatusPresent.set(false);
-    } else {
-      // get the synchronization lock
-      while (!synchronizationLock.tryLock()) {
-        log.warn("SIMONA: Waiting for synchronization lock.");
-      }
+    log.debug("Waiting for new input data.");
 
-      log.info("Waiting for new input data.");
-
-      // we need to wait for the input data
-      waitForStatus.await();
-    }
+    // we need to wait for the input data
+    ExtInputContainer inputData = rendezvous.awaitInput();
+    long inputTick = inputData.getTick();
 
-    if (simonaTick == scaledTime) {
-      return new HasData(currentInputData);
-    } else if (simonaTick < scaledTime) {
-      return new SimonaIsBehind(scaledTime);
+    if (simonaTick == inputTick) {
+      return new HasData(inputData);
+    } else if (simonaTick < inputTick) {
+      return new SimonaIsBehind(inputTick);
     } else {
       return new SimonaIsAhead();
     }
   }
 
-  @Override
-  public void provideOutputData(ExtOutputContainer outputData) {
-    this.currentOutputData = outputData;
+  /** Returns the next input of mosaik or {@code null}, if mosaik did not send a new input. */
+  ExtInputContainer pollInput() {
+    return rendezvous.pollInput();
+  }
 
-    // get the synchronization lock
-    while (!synchronizationLock.tryLock()) {
-      log.warn("SIMONA: Waiting for synchronization lock.");
-    }
+  /**
+   * Sets a listener, that is notified after each input of mosaik and when the simulator finishes.
+   */
+  void setInputListener(Runnable inputListener) {
+    this.inputListener = inputListener;
+    rendezvous.setInputListener(inputListener);
+  }
 
-    // we need to wait for the input data
-    waitForResults.signal();
-    newStatusPresent.set(false);
-    log.info("Provided mosaik with results.");
+  /** Returns true, if mosaik will not send any more inputs. */
+  boolean isFinished() {
+    return finished;
+  }
+
+  /** Returns true, if the inputs of this shard depend on other shards in the same tick. */
+  boolean isFollower() {
+    return follower;
+  }
+
+  /** Returns the index of all entities, {@code null} before the setup is done. */
+  EntityIndex entityIndex() {
+    return index;
+  }
+
+  @Override
+  public void provideOutputData(ExtOutputContainer outputData) {
+    // hand the results over to mosaik
+    rendezvous.provideOutput(outputData);
+    log.debug("Provided mosaik with results.");
   }
 
   @Override
@@ -0,0 +1,84 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik;
+
+import java.util.*;
+
+/** All result attributes, that can be requested by mosaik. */
+public enum ResultAttribute {
+  CONGESTION(SimosaikUnits.CONGESTION),
+  VOLTAGE_MAG(SimosaikUnits.VOLTAGE_MAG),
+  VOLTAGE_ANG(SimosaikUnits.VOLTAGE_ANG),
+  CURRENT_MAG(SimosaikUnits.CURRENT_MAG),
+  CURRENT_ANG(SimosaikUnits.CURRENT_ANG),
+  ACTIVE_POWER(SimosaikUnits.ACTIVE_POWER),
+  REACTIVE_POWER(SimosaikUnits.REACTIVE_POWER),
+  THERMAL_POWER(SimosaikUnits.THERMAL_POWER),
+  SOC(SimosaikUnits.SOC),
+  ACTIVE_ENERGY(SimosaikUnits.ACTIVE_ENERGY),
+  REACTIVE_ENERGY(SimosaikUnits.REACTIVE_ENERGY),
+  THERMAL_ENERGY(SimosaikUnits.THERMAL_ENERGY);
+
+  private static final Map<String, ResultAttribute> BY_NAME = new HashMap<>();
+
+  static {
+    for (ResultAttribute attribute : values()) {
+      BY_NAME.put(attribute.name, attribute);
+    }
+  }
+
+  public final String name;
+
+  /** The bit of this attribute inside an attribute mask. */
+  public final int mask;
+
+  ResultAttribute(String name) {
+    this.name = name;
+    this.mask = 1 << ordinal();
+  }
+
+  /**
+   * Returns true, if this attribute is set in the given mask.
+   *
+   * @param mask attribute mask
+   * @return true, if the attribute is set
+   */
+  public boolean isIn(int mask) {
+    return (mask & this.mask) != 0;
+  }
+
+  /**
+   * Method to parse a result attribute.
+   *
+   * @param name mosaik attribute
+   * @return an option for the result attribute
+   */
+  public static Optional<ResultAttribute> parse(String name) {
+    return Optional.ofNullable(BY_NAME.get(name));
+  }
+
+  /**
+   * Method to build an attribute mask for the given mosaik attributes. Attributes, that are no
+   * result attributes, are ignored.
+   *
+   * @param attributes mosaik attributes
+   * @return the attribute mask
+   */
+  public static int toMask(Collection<String> attributes) {
+    int mask = 0;
+
+    for (String attribute : attributes) {
+      ResultAttribute resultAttribute = BY_NAME.get(attribute);
+
+      if (resultAttribute != null) {
+        mask |= resultAttribute.mask;
+      }
+    }
+
+    return mask;
+  }
+}
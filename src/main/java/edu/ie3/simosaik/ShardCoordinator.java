@@ -0,0 +1,439 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik;
+
+import edu.ie3.simona.api.data.connection.ExtEmDataConnection.EmMode;
+import edu.ie3.simona.api.data.container.ExtInputContainer;
+import edu.ie3.simona.api.data.container.ExtOutputContainer;
+import edu.ie3.simona.api.mapping.DataType;
+import edu.ie3.simona.api.mapping.ExtEntityEntry;
+import edu.ie3.simona.api.mapping.ExtEntityMapping;
+import edu.ie3.simona.api.simulation.ExtCoSimFramework;
+import edu.ie3.simosaik.initialization.InitializationData;
+import edu.ie3.simosaik.initialization.InitializationData.ModelData;
+import edu.ie3.simosaik.initialization.InitializationData.SimulatorData;
+import edu.ie3.simosaik.initialization.InitializationData.TickInformation;
+import edu.ie3.simosaik.synchronization.InputSchedule;
+import edu.ie3.simosaik.utils.AdaptiveStep;
+import edu.ie3.simosaik.utils.EntityIndex;
+import edu.ie3.simosaik.utils.ResultSubscription;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coordinator for multiple {@link MosaikSimulator} shards, that are each connected to mosaik
+ * through their own socket and thread. Each shard only knows the entities mosaik created on it. The
+ * coordinator merges the initialization data and the inputs of all shards into a single exchange
+ * with the {@link MosaikSimulation}, and hands the output of SIMONA to all shards of the tick.
+ *
+ * <p>Shards may be stepped by mosaik at different times. The shards with the earliest pending input
+ * form the exchange of a tick, while the inputs of all other shards are kept for a later tick. The
+ * coordinator only waits for shards, that mosaik steps at or before that tick, and skips finished
+ * shards.
+ *
+ * <p>Follower shards, whose inputs depend on the data of other shards in the same tick, are
+ * strictly ordered after the other shards. Their inputs are exchanged with SIMONA in a second
+ * exchange of the same tick, after the output of the first exchange was released. Thus, the inputs
+ * of a follower are always applied at their own tick, and the follower receives the output, that
+ * was computed with them. SIMONA does not leave a tick before all followers of the tick sent their
+ * input.
+ *
+ * <p>An input for a tick, that SIMONA already left, cannot be applied anymore. Such an input is
+ * rejected with a warning, and the shard receives the output of the last exchange.
+ */
+public final class ShardCoordinator implements ExtCoSimFramework<InitializationData> {
+  private static final Logger log = LoggerFactory.getLogger(ShardCoordinator.class);
+
+  private final List<MosaikSimulator> shards;
+
+  // pending input per shard, null if the shard did not send an input yet
+  private final ExtInputContainer[] pending;
+
+  // shards, that take part in the current exchange
+  private final boolean[] participating;
+
+  // tick, at which mosaik steps each shard next, known from the last output of the shard
+  private final long[] nextTicks;
+
+  // released by the shards after each input and when they finish
+  private final Semaphore events = new Semaphore(0);
+
+  // output of the last exchange, null before the first exchange
+  private ExtOutputContainer lastOutput;
+
+  public ShardCoordinator(List<MosaikSimulator> shards) {
+    if (shards.isEmpty()) {
+      throw new IllegalArgumentException("At least one shard is needed!");
+    }
+
+    this.shards = List.copyOf(shards);
+    this.pending = new ExtInputContainer[shards.size()];
+    this.participating = new boolean[shards.size()];
+    this.nextTicks = new long[shards.size()];
+
+    for (MosaikSimulator shard : this.shards) {
+      shard.setInputListener(events::release);
+    }
+  }
+
+  /**
+   * Returns a stopper for a shard, that only runs the given stopper, after it was called for all
+   * shards.
+   *
+   * @param shards number of shards
+   * @param stopper of the external simulation
+   * @return a stopper, that can be shared by all shards
+   */
+  public static Runnable sharedStopper(int shards, Runnable stopper) {
+    AtomicInteger running = new AtomicInteger(shards);
+
+    return () -> {
+      if (running.decrementAndGet() == 0) {
+        stopper.run();
+      }
+    };
+  }
+
+  /** Returns all shards. */
+  public List<MosaikSimulator> getShards() {
+    return shards;
+  }
+
+  @Override
+  public String getName() {
+    return "ShardCoordinator";
+  }
+
+  @Override
+  public void setInitDataQueue(Queue<InitializationData> initDataQueue) {
+    List<BlockingQueue<InitializationData>> queues = new ArrayList<>();
+
+    for (MosaikSimulator shard : shards) {
+      BlockingQueue<InitializationData> queue = new LinkedBlockingQueue<>();
+      shard.setInitDataQueue(queue);
+      queues.add(queue);
+    }
+
+    // the shards are initialized by mosaik concurrently, so their data is merged in the background
+    Thread thread =
+        new Thread(
+            () -> {
+              try {
+                initDataQueue.add(mergeTickInformation(take(queues, TickInformation.class)));
+                initDataQueue.add(mergeSimulatorData(take(queues, SimulatorData.class)));
+                initDataQueue.add(mergeModelData(take(queues, ModelData.class)));
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } catch (RuntimeException e) {
+                log.error("Could not merge the initialization data of the shards.", e);
+              }
+            },
+            "simosaik-shard-init");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  @Override
+  public Status getStatus(long simonaTick) throws InterruptedException {
+    long tick = collectInputs(simonaTick);
+
+    while (mustWait(tick)) {
+      // wait for the next input or the end of any shard
+      events.acquire();
+      tick = collectInputs(simonaTick);
+    }
+
+    // followers are only exchanged, after all other shards of the tick were exchanged
+    boolean followers = true;
+
+    for (int i = 0; i < pending.length; i++) {
+      if (pending[i] != null && pending[i].getTick() == tick && !shards.get(i).isFollower()) {
+        followers = false;
+      }
+    }
+
+    List<ExtInputContainer> inputs = new ArrayList<>();
+
+    for (int i = 0; i < pending.length; i++) {
+      participating[i] =
+          pending[i] != null
+              && pending[i].getTick() == tick
+              && shards.get(i).isFollower() == followers;
+
+      if (participating[i]) {
+        inputs.add(pending[i]);
+      }
+    }
+
+    log.debug(
+        "Shards {} take part in the exchange of tick {}.", Arrays.toString(participating), tick);
+
+    if (simonaTick == tick) {
+      return new HasData(merge(tick, inputs));
+    } else if (simonaTick < tick) {
+      return new SimonaIsBehind(tick);
+    } else {
+      return new SimonaIsAhead();
+    }
+  }
+
+  /**
+   * Takes the inputs, that the shards sent since the last call. An input of a tick before the
+   * current tick of SIMONA is rejected.
+   *
+   * @param simonaTick current tick of SIMONA
+   * @return the earliest tick of all pending inputs or {@link Long#MAX_VALUE}
+   */
+  private long collectInputs(long simonaTick) {
+    long tick = Long.MAX_VALUE;
+
+    for (int i = 0; i < pending.length; i++) {
+      if (pending[i] == null) {
+        ExtInputContainer input = shards.get(i).pollInput();
+
+        if (input != null && input.getTick() < simonaTick) {
+          reject(i, input, simonaTick);
+        } else {
+          pending[i] = input;
+        }
+      }
+
+      if (pending[i] != null) {
+        tick = Math.min(tick, pending[i].getTick());
+      }
+    }
+
+    return tick;
+  }
+
+  /**
+   * Rejects an input, that SIMONA cannot apply anymore. The shard receives the output of the last
+   * exchange, so that mosaik can continue.
+   */
+  private void reject(int shard, ExtInputContainer input, long simonaTick) {
+    if (input.hasPrimaryData() || input.hasEmData()) {
+      log.warn(
+          "Shard {} sent data for tick {}, but SIMONA is already in tick {}. The data is dropped!",
+          shard,
+          input.getTick(),
+          simonaTick);
+    } else {
+      log.debug("Shard {} was stepped in tick {} without any data.", shard, input.getTick());
+    }
+
+    ExtOutputContainer output =
+        lastOutput != null
+            ? lastOutput
+            : new ExtOutputContainer(simonaTick, OptionalLong.of(simonaTick));
+
+    nextTicks[shard] = nextTick(output);
+    shards.get(shard).provideOutputData(output);
+  }
+
+  /**
+   * Returns true, if a shard without a pending input may still send an input for the given tick or
+   * before. Finished shards and followers in the given tick are not waited for, since they can only
+   * send their input after the other shards of the tick were exchanged.
+   */
+  private boolean mustWait(long tick) {
+    if (tick == Long.MAX_VALUE) {
+      // no input is pending
+      return true;
+    }
+
+    for (int i = 0; i < pending.length; i++) {
+      MosaikSimulator shard = shards.get(i);
+
+      if (pending[i] == null
+          && !shard.isFinished()
+          && (nextTicks[i] < tick || (nextTicks[i] == tick && !shard.isFollower()))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public void provideOutputData(ExtOutputContainer outputData) {
+    // the output is only read by the shards, so it can be shared
+    release(outputData);
+  }
+
+  @Override
+  public void goToNextTick(long simonaTick) {
+    // same output as a single simulator provides to go to the next tick
+    release(new ExtOutputContainer(simonaTick, OptionalLong.of(simonaTick)));
+  }
+
+  private void release(ExtOutputContainer output) {
+    lastOutput = output;
+
+    for (int i = 0; i < pending.length; i++) {
+      if (participating[i]) {
+        participating[i] = false;
+        pending[i] = null;
+        nextTicks[i] = nextTick(output);
+        shards.get(i).provideOutputData(output);
+      }
+    }
+  }
+
+  /** Returns the next tick, that the shards report to mosaik with the given output. */
+  private static long nextTick(ExtOutputContainer output) {
+    return output.getMaybeNextTick().orElse(Long.MAX_VALUE);
+  }
+
+  /** Merges the inputs of all participating shards into one input. */
+  private static ExtInputContainer merge(long tick, List<ExtInputContainer> inputs) {
+    if (inputs.size() == 1) {
+      return inputs.getFirst();
+    }
+
+    ExtInputContainer merged = new ExtInputContainer(tick);
+
+    for (ExtInputContainer input : inputs) {
+      if (input.hasPrimaryData()) {
+        input.extractPrimaryData().forEach(merged::addPrimaryValue);
+      }
+
+      if (input.hasEmData()) {
+        input.extractFlexRequests().values().forEach(merged::addRequest);
+        input
+            .extractFlexOptions()
+            .values()
+            .forEach(options -> options.forEach(merged::addFlexOptions));
+        input.extractSetPoints().values().forEach(merged::addSetPoint);
+        input.extractEmMessages().forEach(merged::addFlexComMessage);
+      }
+    }
+
+    return merged;
+  }
+
+  private static TickInformation mergeTickInformation(List<TickInformation> information) {
+    long stepSize = 0L;
+    long lastTick = 0L;
+
+    // the common step size needs to hit the ticks of all shards
+    for (TickInformation info : information) {
+      stepSize = gcd(stepSize, info.stepSize());
+      lastTick = Math.max(lastTick, info.lastTick());
+    }
+
+    return new TickInformation(stepSize, lastTick);
+  }
+
+  private static SimulatorData mergeSimulatorData(List<SimulatorData> data) {
+    boolean sendResults = false;
+    boolean sendUnchangedResults = false;
+    boolean debugFlag = false;
+    Optional<EmMode> emMode = Optional.empty();
+    boolean concurrentExchange = false;
+    List<ResultSubscription> subscriptions = new ArrayList<>();
+    List<InputSchedule> schedules = new ArrayList<>();
+
+    for (SimulatorData shard : data) {
+      shard.fastForward().ifPresent(schedules::add);
+
+      sendResults |= shard.sendResults();
+      sendUnchangedResults |= shard.sendUnchangedResults();
+      debugFlag |= shard.debugFlag();
+      concurrentExchange |= shard.concurrentExchange();
+
+      // same precedence as for a single simulator
+      if (shard.emMode().isPresent() && emMode.orElse(null) != EmMode.EM_COMMUNICATION) {
+        emMode = shard.emMode();
+      }
+
+      // only subscriptions of shards, that request results, restrict the requested results
+      if (shard.sendResults()) {
+        subscriptions.add(shard.resultSubscription());
+      }
+    }
+
+    ResultSubscription subscription =
+        subscriptions.isEmpty()
+            ? ResultSubscription.all()
+            : ResultSubscription.union(subscriptions);
+
+    // idle ticks can only be skipped, if all shards expect it
+    Optional<InputSchedule> fastForward =
+        schedules.size() == data.size()
+            ? Optional.of(InputSchedule.union(schedules))
+            : Optional.empty();
+
+    // the shards would need a common interval, so the step size is only adapted for a single shard
+    Optional<AdaptiveStep> adaptiveStep =
+        data.size() == 1 ? data.getFirst().adaptiveStep() : Optional.empty();
+
+    if (data.size() > 1 && data.stream().anyMatch(shard -> shard.adaptiveStep().isPresent())) {
+      log.warn("The step size cannot be adapted with multiple shards and stays fixed.");
+    }
+
+    // the SIMONA side phases are recorded by the metrics of the first shard
+    return new SimulatorData(
+        sendResults,
+        sendUnchangedResults,
+        debugFlag,
+        emMode,
+        data.getFirst().metrics(),
+        concurrentExchange,
+        subscription,
+        fastForward,
+        adaptiveStep);
+  }
+
+  private ModelData mergeModelData(List<ModelData> data) {
+    ExtEntityMapping mapping = data.getFirst().mapping();
+    List<ExtEntityEntry> entries = new ArrayList<>();
+
+    // the entities of all other shards are added to the mapping of the first shard
+    for (int shard = 1; shard < shards.size(); shard++) {
+      EntityIndex index = shards.get(shard).entityIndex();
+
+      for (int i = 0; i < index.size(); i++) {
+        for (DataType dataType : DataType.values()) {
+          if (index.hasType(i, dataType)) {
+            entries.add(
+                new ExtEntityEntry(
+                    index.uuid(i), index.id(i), Optional.ofNullable(index.scheme(i)), dataType));
+          }
+        }
+      }
+    }
+
+    return new ModelData(entries.isEmpty() ? mapping : mapping.include(entries));
+  }
+
+  /** Takes the data of the given type from each queue. */
+  private static <R> List<R> take(List<BlockingQueue<InitializationData>> queues, Class<R> clazz)
+      throws InterruptedException {
+    List<R> data = new ArrayList<>();
+
+    for (BlockingQueue<InitializationData> queue : queues) {
+      InitializationData initData = queue.take();
+
+      if (!clazz.isInstance(initData)) {
+        throw new IllegalStateException("Received unexpected initialisation data: " + initData);
+      }
+
+      data.add(clazz.cast(initData));
+    }
+
+    return data;
+  }
+
+  private static long gcd(long a, long b) {
+    return b == 0 ? a : gcd(b, a % b);
+  }
+}
@@ -6,10 +6,17 @@
 
 package edu.ie3.simosaik;
 
-import de.offis.mosaik.api.SimProcess;
 import edu.ie3.simona.api.ExtLinkInterface;
 import edu.ie3.simona.api.data.SetupData;
 import edu.ie3.simona.api.mapping.ExtEntityMapping;
+import edu.ie3.simona.api.simulation.ExtCoSimFramework;
+import edu.ie3.simosaik.initialization.InitializationData;
+import edu.ie3.simosaik.recording.ReplayDriver;
+import edu.ie3.simosaik.transport.NioChannel;
+import edu.ie3.simosaik.transport.Transport;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +24,10 @@ import org.slf4j.LoggerFactory;
 public final class SimosaikExtLink implements ExtLinkInterface {
 
   private static final Logger log = LoggerFactory.getLogger(SimosaikExtLink.class);
+
+  /** Prefix of addresses, on which simosaik waits for mosaik to connect. */
+  private static final String SERVER_PREFIX = "server:";
+
   private MosaikSimulation extSim;
 
   @Override
@@ -28,19 +39,50 @@ public final class SimosaikExtLink implements ExtLinkInterface {
   public void setup(SetupData data) {
     ArgsParser.Arguments arguments = ArgsParser.parse(data.mainArgs());
 
-    String mosaikIP = arguments.mosaikIP();
-
-    // initial mapping from grid container
-    ExtEntityMapping mapping = new ExtEntityMapping(data.gridContainer());
-
     // creating and starting the simulator
     Runnable stopper = () -> Optional.ofNullable(extSim).ifPresent(sim -> sim.run = false);
 
-    MosaikSimulator simulator = new MosaikSimulator(mapping, stopper);
-    startMosaikSimulator(simulator, mosaikIP, stopper);
+    ExtCoSimFramework<InitializationData> framework;
+
+    if (arguments.replay().isPresent()) {
+      // initial mapping from grid container
+      ExtEntityMapping mapping = new ExtEntityMapping(data.gridContainer());
+
+      MosaikSimulator simulator = new MosaikSimulator(mapping, stopper);
+      startReplay(simulator, arguments.replay().get(), stopper);
+      framework = simulator;
+    } else {
+      List<String> addresses = arguments.mosaikAddresses();
+
+      if (addresses.size() == 1) {
+        ExtEntityMapping mapping = new ExtEntityMapping(data.gridContainer());
+
+        MosaikSimulator simulator = new MosaikSimulator(mapping, stopper);
+        startMosaikSimulator(simulator, addresses.getFirst(), arguments.transport(), stopper);
+        framework = simulator;
+      } else {
+        log.info("Starting {} shards for the mosaik addresses: {}", addresses.size(), addresses);
+
+        // the simulation is only stopped after all shards are finished
+        Runnable shardStopper = ShardCoordinator.sharedStopper(addresses.size(), stopper);
+        List<MosaikSimulator> shards = new ArrayList<>();
+
+        for (int i = 0; i < addresses.size(); i++) {
+          // each shard needs its own mapping, since the entities are created concurrently
+          ExtEntityMapping mapping = new ExtEntityMapping(data.gridContainer());
+
+          MosaikSimulator shard =
+              new MosaikSimulator("MosaikSimulator-" + i, mapping, shardStopper);
+          startMosaikSimulator(shard, addresses.get(i), arguments.transport(), shardStopper);
+          shards.add(shard);
+        }
+
+        framework = new ShardCoordinator(shards);
+      }
+    }
 
     // creating the external simulation
-    extSim = new MosaikSimulation(simulator);
+    extSim = new MosaikSimulation(framework);
     extSim.setSetupData(data);
   }
 
@@ -52,6 +94,29 @@ public final class SimosaikExtLink implements ExtLinkInterface {
    */
   public static void startMosaikSimulator(
       MosaikSimulator mosaikSimulator, String mosaikIP, Runnable stopper) {
+    startMosaikSimulator(mosaikSimulator, mosaikIP, Transport.MOSAIK_API, stopper);
+  }
+
+  /**
+   * Starts MOSAIK connection
+   *
+   * @param mosaikSimulator Simulator that extends the MOSAIK API
+   * @param mosaikIP IP address for the connection with MOSAIK
+   * @param transport used for the connection
+   */
+  public static void startMosaikSimulator(
+      MosaikSimulator mosaikSimulator, String mosaikIP, Transport transport, Runnable stopper) {
+    String[] args = simProcessArgs(mosaikIP);
+
+    // unix domain sockets are only supported by the simosaik transport
+    Transport used =
+        args[0].startsWith(NioChannel.UNIX_PREFIX) && transport == Transport.MOSAIK_API
+            ? Transport.SIMOSAIK
+            : transport;
+
+    if (used != transport) {
+      log.info("Using the transport '{}' for the unix domain socket: {}", used.name, args[0]);
+    }
 
     // mosaik simulator thread
     Thread thread =
@@ -59,8 +124,9 @@ public final class SimosaikExtLink implements ExtLinkInterface {
           @Override
           public void run() {
             try {
-              SimProcess.startSimulation(new String[] {mosaikIP}, mosaikSimulator);
+              used.start(args, mosaikSimulator);
             } catch (Exception e) {
+              mosaikSimulator.finish();
               stopper.run();
               throw new RuntimeException(e);
             }
@@ -71,4 +137,47 @@ public final class SimosaikExtLink implements ExtLinkInterface {
 
     thread.start();
   }
+
+  /**
+   * Returns the arguments for the simulator process of the {@link Transport}. An address with the
+   * prefix {@code server:} is opened as a server, to which mosaik connects. This is needed for all
+   * shards, that are not started by mosaik.
+   *
+   * @param mosaikIP address of the socket
+   * @return the arguments
+   */
+  private static String[] simProcessArgs(String mosaikIP) {
+    if (mosaikIP.startsWith(SERVER_PREFIX)) {
+      return new String[] {mosaikIP.substring(SERVER_PREFIX.length()), "server"};
+    }
+
+    return new String[] {mosaikIP};
+  }
+
+  /**
+   * Starts the replay of a recorded exchange log instead of a MOSAIK connection.
+   *
+   * @param mosaikSimulator Simulator that extends the MOSAIK API
+   * @param file of the exchange log
+   */
+  public static void startReplay(MosaikSimulator mosaikSimulator, Path file, Runnable stopper) {
+
+    // replay thread, that replaces the mosaik simulator thread
+    Thread thread =
+        new Thread("Simosaik-Replay") {
+          @Override
+          public void run() {
+            try {
+              new ReplayDriver(mosaikSimulator, file).run();
+            } catch (Exception e) {
+              stopper.run();
+              throw new RuntimeException(e);
+            }
+
+            log.info("Simosaik replay has finished.");
+          }
+        };
+
+    thread.start();
+  }
 }
@@ -13,6 +13,7 @@ import edu.ie3.simosaik.exceptions.ConversionException;
 import java.util.List;
 import javax.measure.Quantity;
 import javax.measure.Unit;
+import javax.measure.quantity.Power;
 import tech.units.indriya.unit.Units;
 
 public final class SimosaikUnits {
@@ -36,6 +37,11 @@ public final class SimosaikUnits {
 
   public static final String SOC = "SOC[%]";
 
+  // aggregated energies of the powers above
+  public static final String ACTIVE_ENERGY = "E[MWh]";
+  public static final String REACTIVE_ENERGY = "E[MVArh]";
+  public static final String THERMAL_ENERGY = "E_th[MWh]";
+
   // em units -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-
   public static final String FLEX_REQUEST = "Flex[request]";
   public static final String FLEX_OPTIONS = "Flex[options]";
@@ -61,15 +67,26 @@ public final class SimosaikUnits {
           ACTIVE_POWER,
           REACTIVE_POWER,
           THERMAL_POWER,
-          SOC);
+          SOC,
+          ACTIVE_ENERGY,
+          REACTIVE_ENERGY,
+          THERMAL_ENERGY);
+
+  // psdm units, that are built once instead of on every conversion
+
+  /** Psdm unit of active and thermal powers, that are provided by mosaik in MW. */
+  public static final Unit<Power> PSDM_ACTIVE_POWER = ACTIVE_POWER_IN.multiply(1000);
+
+  /** Psdm unit of reactive powers, that are provided by mosaik in MVAr. */
+  public static final Unit<Power> PSDM_REACTIVE_POWER = REACTIVE_POWER_IN.multiply(1000);
 
   /** Method to return the corresponding psdm unit to a mosaik unit. */
   @SuppressWarnings("unchecked")
   public static <Q extends Quantity<Q>> Unit<Q> getPSDMUnit(String mosaikUnit) {
     return switch (mosaikUnit) {
       case ACTIVE_POWER, THERMAL_POWER, FLEX_OPTION_P_MIN, FLEX_OPTION_P_REF, FLEX_OPTION_P_MAX ->
-          (Unit<Q>) ACTIVE_POWER_IN.multiply(1000);
-      case REACTIVE_POWER -> (Unit<Q>) REACTIVE_POWER_IN.multiply(1000);
+          (Unit<Q>) PSDM_ACTIVE_POWER;
+      case REACTIVE_POWER -> (Unit<Q>) PSDM_REACTIVE_POWER;
       case VOLTAGE_MAG -> (Unit<Q>) VOLTAGE_MAGNITUDE;
       case SOC -> (Unit<Q>) StandardUnits.SOC;
       case ETA_CHARGE, ETA_DISCHARGE -> (Unit<Q>) Units.PERCENT;
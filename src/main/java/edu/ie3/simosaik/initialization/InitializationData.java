@@ -9,6 +9,10 @@ package edu.ie3.simosaik.initialization;
 import edu.ie3.simona.api.data.connection.ExtEmDataConnection;
 import edu.ie3.simona.api.mapping.ExtEntityMapping;
 import edu.ie3.simona.api.simulation.ExtCoSimFramework;
+import edu.ie3.simosaik.metrics.TickMetrics;
+import edu.ie3.simosaik.synchronization.InputSchedule;
+import edu.ie3.simosaik.utils.AdaptiveStep;
+import edu.ie3.simosaik.utils.ResultSubscription;
 import java.util.Optional;
 
 /** Data send to SIMONA by mosaik. This data is necessary to initialize the external simulation. */
@@ -20,12 +24,24 @@ public interface InitializationData extends ExtCoSimFramework.InitData {
    * Simulator data that is use.
    *
    * @param emMode option for the mode of an external em data connection
+   * @param metrics shared with mosaik to record the duration of the SIMONA side phases
+   * @param concurrentExchange if true, results are requested while waiting for other connections
+   * @param resultSubscription shared with mosaik to only request the results mosaik is subscribed
+   *     to
+   * @param fastForward option for the input schedule shared with mosaik, if idle ticks are skipped
+   * @param adaptiveStep option for the step controller shared with mosaik, if the step size is
+   *     adapted
    */
   record SimulatorData(
       boolean sendResults,
       boolean sendUnchangedResults,
       boolean debugFlag,
-      Optional<ExtEmDataConnection.EmMode> emMode)
+      Optional<ExtEmDataConnection.EmMode> emMode,
+      TickMetrics metrics,
+      boolean concurrentExchange,
+      ResultSubscription resultSubscription,
+      Optional<InputSchedule> fastForward,
+      Optional<AdaptiveStep> adaptiveStep)
       implements InitializationData {}
 
   /**
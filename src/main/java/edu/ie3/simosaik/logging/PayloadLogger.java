@@ -0,0 +1,123 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.logging;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous logger for full payload dumps. The payloads are converted into strings and logged by
+ * a background thread on the debug level of the logger {@code edu.ie3.simosaik.payload}. If the
+ * logger is disabled, no thread is started and payloads are ignored. If the queue is full, payloads
+ * are dropped instead of blocking the calling thread.
+ *
+ * <p>The payloads are converted asynchronously, therefore they must not be changed after they were
+ * handed to this logger.
+ */
+public final class PayloadLogger implements AutoCloseable {
+  private static final Logger log = LoggerFactory.getLogger("edu.ie3.simosaik.payload");
+
+  /** Default number of payloads, that can be queued. */
+  public static final int DEFAULT_CAPACITY = 64;
+
+  private static final Payload POISON = new Payload(0L, null, null);
+
+  private final BlockingQueue<Payload> queue;
+  private final Thread writer;
+  private final AtomicLong dropped = new AtomicLong();
+
+  private PayloadLogger(int capacity, boolean enabled) {
+    this.queue = new ArrayBlockingQueue<>(capacity);
+
+    if (enabled) {
+      this.writer = new Thread(this::run, "simosaik-payload-log");
+      this.writer.setDaemon(true);
+      this.writer.start();
+    } else {
+      this.writer = null;
+    }
+  }
+
+  /**
+   * Creates a new payload logger. The background thread is only started, if the payload logger is
+   * enabled for debug messages.
+   *
+   * @param capacity number of payloads, that can be queued
+   * @return a new payload logger
+   */
+  public static PayloadLogger create(int capacity) {
+    return new PayloadLogger(capacity, log.isDebugEnabled());
+  }
+
+  /** Returns a payload logger, that ignores all payloads. */
+  public static PayloadLogger disabled() {
+    return new PayloadLogger(1, false);
+  }
+
+  /** Returns true, if payloads are logged. */
+  public boolean isEnabled() {
+    return writer != null;
+  }
+
+  /** Returns the number of dropped payloads. */
+  public long dropped() {
+    return dropped.get();
+  }
+
+  /**
+   * Enqueues a payload for logging.
+   *
+   * @param time of the payload
+   * @param label describing the payload
+   * @param payload that is converted into a string by the background thread
+   */
+  public void log(long time, String label, Object payload) {
+    if (writer != null && !queue.offer(new Payload(time, label, payload))) {
+      dropped.incrementAndGet();
+    }
+  }
+
+  /** Logs all queued payloads and stops the background thread. */
+  @Override
+  public void close() {
+    if (writer == null) {
+      return;
+    }
+
+    try {
+      queue.put(POISON);
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (dropped.get() > 0) {
+      log.warn("Dropped {} payloads, because the payload log could not keep up.", dropped.get());
+    }
+  }
+
+  private void run() {
+    try {
+      while (true) {
+        Payload payload = queue.take();
+
+        if (payload == POISON) {
+          return;
+        }
+
+        log.debug("[{}] {}: {}", payload.time, payload.label, payload.payload);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record Payload(long time, String label, Object payload) {}
+}
@@ -0,0 +1,127 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.logging;
+
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+
+/**
+ * Logging facade for the hot path of simosaik. The level is checked before any argument is
+ * evaluated, and arguments can be passed as {@link Supplier}s, that are only evaluated if the
+ * message is logged. Without the debug flag, info and warn messages are logged as debug messages.
+ *
+ * <p>Per-tick messages can be sampled, so that they are only logged for every n-th tick.
+ */
+public final class SimosaikLogger {
+  private final Logger log;
+  private volatile boolean debugFlag;
+  private volatile long sampleRate = 1L;
+
+  public SimosaikLogger(boolean debugFlag, Logger log) {
+    this.debugFlag = debugFlag;
+    this.log = log;
+  }
+
+  public void setFlag(boolean value) {
+    this.debugFlag = value;
+  }
+
+  /**
+   * Sets the sample rate for per-tick messages.
+   *
+   * @param sampleRate only every n-th tick is logged, at least 1
+   */
+  public void setSampleRate(long sampleRate) {
+    if (sampleRate < 1) {
+      throw new IllegalArgumentException(
+          "The sample rate must be at least 1, but was: " + sampleRate);
+    }
+
+    this.sampleRate = sampleRate;
+  }
+
+  /**
+   * Returns true, if the messages of the tick with the given number should be logged.
+   *
+   * @param tickNumber consecutive number of the tick
+   * @return true, if the tick is sampled
+   */
+  public boolean isSampled(long tickNumber) {
+    return tickNumber % sampleRate == 0;
+  }
+
+  public boolean isInfoEnabled() {
+    return debugFlag ? log.isInfoEnabled() : log.isDebugEnabled();
+  }
+
+  public boolean isWarnEnabled() {
+    return debugFlag ? log.isWarnEnabled() : log.isDebugEnabled();
+  }
+
+  public boolean isDebugEnabled() {
+    return log.isDebugEnabled();
+  }
+
+  public void info(String format, Object... args) {
+    if (debugFlag) {
+      if (log.isInfoEnabled()) {
+        log.info(format, args);
+      }
+    } else if (log.isDebugEnabled()) {
+      log.debug(format, args);
+    }
+  }
+
+  public void info(String format, Supplier<?>... args) {
+    if (isInfoEnabled()) {
+      info(format, evaluate(args));
+    }
+  }
+
+  public void warn(String format, Object... args) {
+    if (debugFlag) {
+      if (log.isWarnEnabled()) {
+        log.warn(format, args);
+      }
+    } else if (log.isDebugEnabled()) {
+      log.debug(format, args);
+    }
+  }
+
+  public void warn(String format, Supplier<?>... args) {
+    if (isWarnEnabled()) {
+      warn(format, evaluate(args));
+    }
+  }
+
+  public void debug(String format, Object... args) {
+    if (log.isDebugEnabled()) {
+      log.debug(format, args);
+    }
+  }
+
+  public void debug(String format, Supplier<?>... args) {
+    if (log.isDebugEnabled()) {
+      log.debug(format, evaluate(args));
+    }
+  }
+
+  /** Logs a warning independent of the debug flag. */
+  public void warnDirect(String format, Object... args) {
+    log.warn(format, args);
+  }
+
+  private static Object[] evaluate(Supplier<?>[] args) {
+    Object[] values = new Object[args.length];
+
+    for (int i = 0; i < args.length; i++) {
+      values[i] = args[i].get();
+    }
+
+    return values;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.logging;
+
+import java.util.Locale;
+
+/**
+ * Compact summary of one tick, that is logged instead of the full payloads. The summary is reused
+ * for all ticks and only used by the mosaik thread.
+ */
+public final class TickSummary {
+  private long time;
+  private int inputEntities;
+  private int requestedEntities;
+  private int outputEntities;
+  private int resultEntities;
+  private long stepNanos;
+  private long getDataNanos;
+
+  /**
+   * Starts the summary of a new tick.
+   *
+   * @param time mosaik time of the tick
+   */
+  public void begin(long time) {
+    this.time = time;
+    this.inputEntities = 0;
+    this.requestedEntities = 0;
+    this.outputEntities = 0;
+    this.resultEntities = 0;
+    this.stepNanos = 0L;
+    this.getDataNanos = 0L;
+  }
+
+  /**
+   * Sets the values of the step.
+   *
+   * @param inputEntities number of entities with inputs
+   * @param resultEntities number of entities with results from SIMONA
+   * @param nanos duration of the step
+   */
+  public void step(int inputEntities, int resultEntities, long nanos) {
+    this.inputEntities = inputEntities;
+    this.resultEntities = resultEntities;
+    this.stepNanos = nanos;
+  }
+
+  /**
+   * Adds the values of a data request. Mosaik may request data multiple times per tick.
+   *
+   * @param requestedEntities number of requested entities
+   * @param outputEntities number of entities with output
+   * @param nanos duration of the request
+   */
+  public void getData(int requestedEntities, int outputEntities, long nanos) {
+    this.requestedEntities += requestedEntities;
+    this.outputEntities += outputEntities;
+    this.getDataNanos += nanos;
+  }
+
+  /**
+   * Logs this summary as info message.
+   *
+   * @param logger to log with
+   */
+  public void log(SimosaikLogger logger) {
+    if (logger.isInfoEnabled()) {
+      logger.info("{}", this);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        Locale.ROOT,
+        "[%d] inputs: %d, results: %d, requested: %d, outputs: %d, step: %.3f ms, getData: %.3f ms",
+        time,
+        inputEntities,
+        resultEntities,
+        requestedEntities,
+        outputEntities,
+        stepNanos / 1e6,
+        getDataNanos / 1e6);
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.metrics;
+
+/** Phases of a tick, that are measured by the {@link TickMetrics}. */
+public enum Phase {
+  /** Decoding of the mosaik inputs in {@code step}. */
+  INPUT_DECODING("input_decoding"),
+  /** Time mosaik waits for SIMONA. This includes all SIMONA side phases. */
+  WAIT_FOR_RESULTS("wait_for_results"),
+  /** Sending primary data to SIMONA. */
+  PRIMARY_DATA("primary_data"),
+  /** Sending em data to SIMONA and receiving its response. */
+  EM_DATA("em_data"),
+  /** Requesting results from SIMONA. */
+  RESULT_REQUEST("result_request"),
+  /** Conversion of the SIMONA results into the result buffer, once per tick. */
+  RESULT_CONVERSION("result_conversion"),
+  /** Encoding of the outputs for mosaik in {@code getData}. */
+  OUTPUT_ENCODING("output_encoding");
+
+  public final String name;
+
+  Phase(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Method to parse a phase.
+   *
+   * @param name of the phase
+   * @return the phase
+   */
+  public static Phase parse(String name) {
+    for (Phase phase : values()) {
+      if (phase.name.equals(name) || phase.name().equals(name)) {
+        return phase;
+      }
+    }
+
+    throw new IllegalArgumentException("Unknown phase: " + name);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of durations with logarithmic buckets. Bucket {@code i} holds all durations with {@code
+ * 2^(i-1) <= nanos < 2^i}. This class is not thread-safe.
+ */
+final class PhaseHistogram {
+  private final long[] buckets = new long[Long.SIZE + 1];
+  private long count;
+  private long sum;
+  private long max;
+
+  void record(long nanos) {
+    buckets[Long.SIZE - Long.numberOfLeadingZeros(Math.max(nanos, 0L))]++;
+    count++;
+    sum += nanos;
+    max = Math.max(max, nanos);
+  }
+
+  long count() {
+    return count;
+  }
+
+  long sum() {
+    return sum;
+  }
+
+  long max() {
+    return max;
+  }
+
+  double mean() {
+    return count == 0 ? 0d : (double) sum / count;
+  }
+
+  /**
+   * Returns the upper bound of the bucket containing the given percentile.
+   *
+   * @param percentile between 0 and 100
+   * @return upper bound in nanoseconds
+   */
+  long percentile(double percentile) {
+    long rank = (long) Math.ceil(count * percentile / 100d);
+    long seen = 0;
+
+    for (int i = 0; i < buckets.length; i++) {
+      seen += buckets[i];
+
+      if (seen >= rank && seen > 0) {
+        return i >= Long.SIZE - 1 ? max : Math.min(1L << i, max);
+      }
+    }
+
+    return max;
+  }
+
+  void reset() {
+    Arrays.fill(buckets, 0L);
+    count = 0;
+    sum = 0;
+    max = 0;
+  }
+}
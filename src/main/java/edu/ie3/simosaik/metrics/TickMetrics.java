@@ -0,0 +1,216 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Metrics, that record the duration of each {@link Phase} of a tick. The durations are collected in
+ * histograms, that are exposed via JMX, and in a per tick timeline, that can be written to a csv
+ * file. If the metrics are disabled, no time is measured at all.
+ *
+ * <p>The phases are recorded by the mosaik and the SIMONA thread. Since both threads exchange the
+ * ticks one after another, recording is never contended.
+ */
+public final class TickMetrics implements TickMetricsMBean {
+  private static final Phase[] PHASES = Phase.values();
+
+  public static final String OBJECT_NAME = "edu.ie3.simosaik:type=TickMetrics";
+
+  private volatile boolean enabled;
+
+  private final PhaseHistogram[] histograms = new PhaseHistogram[PHASES.length];
+  private final List<long[]> timeline = new ArrayList<>();
+  private long ticks;
+
+  // the timeline row of the current tick: the tick followed by the duration of each phase
+  private long[] currentRow;
+
+  private ObjectName registeredName;
+
+  public TickMetrics() {
+    for (int i = 0; i < histograms.length; i++) {
+      histograms[i] = new PhaseHistogram();
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Returns the start time of a measurement.
+   *
+   * @return the current nano time or {@code 0}, if the metrics are disabled
+   */
+  public long start() {
+    return enabled ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Starts a new row of the timeline.
+   *
+   * @param tick of the new row
+   */
+  public synchronized void beginTick(long tick) {
+    if (!enabled) {
+      return;
+    }
+
+    ticks++;
+    currentRow = new long[PHASES.length + 1];
+    currentRow[0] = tick;
+    timeline.add(currentRow);
+  }
+
+  /**
+   * Records the duration of the given phase.
+   *
+   * @param phase that was measured
+   * @param start time of the measurement, returned by {@link #start()}
+   */
+  public void record(Phase phase, long start) {
+    if (!enabled) {
+      return;
+    }
+
+    long duration = System.nanoTime() - start;
+
+    synchronized (this) {
+      histograms[phase.ordinal()].record(duration);
+
+      if (currentRow != null) {
+        currentRow[phase.ordinal() + 1] += duration;
+      }
+    }
+  }
+
+  /**
+   * Registers these metrics at the platform MBean server.
+   *
+   * @throws JMException if the registration fails
+   */
+  public synchronized void register() throws JMException {
+    if (registeredName == null) {
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+      if (!server.isRegistered(name)) {
+        server.registerMBean(this, name);
+        registeredName = name;
+      }
+    }
+  }
+
+  /**
+   * Unregisters these metrics from the platform MBean server.
+   *
+   * @throws JMException if the unregistration fails
+   */
+  public synchronized void unregister() throws JMException {
+    if (registeredName != null) {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+      registeredName = null;
+    }
+  }
+
+  /**
+   * Writes the timeline as csv file. Each row contains the tick and the duration of each phase in
+   * nanoseconds.
+   *
+   * @param file to write to
+   * @throws IOException if the file cannot be written
+   */
+  public synchronized void writeTimeline(Path file) throws IOException {
+    try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+      writer.write(
+          String.join(
+              ",",
+              Stream.concat(
+                      Stream.of("tick"), Arrays.stream(PHASES).map(phase -> phase.name + "_ns"))
+                  .toList()));
+      writer.newLine();
+
+      for (long[] row : timeline) {
+        for (int i = 0; i < row.length; i++) {
+          if (i > 0) {
+            writer.write(',');
+          }
+          writer.write(Long.toString(row[i]));
+        }
+        writer.newLine();
+      }
+    }
+  }
+
+  // JMX -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+
+  @Override
+  public synchronized long getTicks() {
+    return ticks;
+  }
+
+  @Override
+  public String[] getPhases() {
+    return Arrays.stream(PHASES).map(phase -> phase.name).toArray(String[]::new);
+  }
+
+  @Override
+  public synchronized long getCount(String phase) {
+    return histogram(phase).count();
+  }
+
+  @Override
+  public synchronized double getTotalMillis(String phase) {
+    return toMillis(histogram(phase).sum());
+  }
+
+  @Override
+  public synchronized double getMeanMillis(String phase) {
+    return toMillis(histogram(phase).mean());
+  }
+
+  @Override
+  public synchronized double getMaxMillis(String phase) {
+    return toMillis(histogram(phase).max());
+  }
+
+  @Override
+  public synchronized double getPercentileMillis(String phase, double percentile) {
+    return toMillis(histogram(phase).percentile(percentile));
+  }
+
+  @Override
+  public synchronized void reset() {
+    for (PhaseHistogram histogram : histograms) {
+      histogram.reset();
+    }
+  }
+
+  private PhaseHistogram histogram(String phase) {
+    return histograms[Phase.parse(phase).ordinal()];
+  }
+
+  private static double toMillis(double nanos) {
+    return nanos / 1e6;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.metrics;
+
+/** JMX interface of the {@link TickMetrics}. All durations are given in milliseconds. */
+public interface TickMetricsMBean {
+
+  /** Returns the number of started ticks. */
+  long getTicks();
+
+  /** Returns the names of all measured phases. */
+  String[] getPhases();
+
+  /** Returns the number of measurements of the given phase. */
+  long getCount(String phase);
+
+  /** Returns the total duration of the given phase. */
+  double getTotalMillis(String phase);
+
+  /** Returns the mean duration of the given phase. */
+  double getMeanMillis(String phase);
+
+  /** Returns the maximal duration of the given phase. */
+  double getMaxMillis(String phase);
+
+  /** Returns the upper bound of the given percentile (0 - 100) of the given phase. */
+  double getPercentileMillis(String phase, double percentile);
+
+  /** Resets all histograms. The timeline is kept. */
+  void reset();
+}
@@ -0,0 +1,166 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.recording;
+
+import static edu.ie3.simosaik.recording.LogFormat.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/** Reader for the binary logs written by the {@link ExchangeRecorder}. */
+public final class ExchangeLogReader implements Closeable {
+  private final DataInputStream input;
+  private final List<String> strings = new ArrayList<>();
+
+  private ExchangeLogReader(DataInputStream input) {
+    this.input = input;
+  }
+
+  /**
+   * Opens the given log.
+   *
+   * @param file of the log
+   * @return a new reader
+   * @throws IOException if the file cannot be read or is no exchange log
+   */
+  public static ExchangeLogReader open(Path file) throws IOException {
+    DataInputStream input =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+
+    try {
+      byte[] magic = new byte[MAGIC.length];
+      input.readFully(magic);
+      int version = input.readInt();
+
+      if (!Arrays.equals(magic, MAGIC)) {
+        throw new IOException("The file '" + file + "' is no exchange log!");
+      } else if (version != VERSION) {
+        throw new IOException("Unsupported exchange log version: " + version);
+      }
+    } catch (IOException e) {
+      input.close();
+      throw e;
+    }
+
+    return new ExchangeLogReader(input);
+  }
+
+  /**
+   * Reads the next record.
+   *
+   * @return an option for the next record, that is empty at the end of the log
+   * @throws IOException if the record cannot be read
+   */
+  public Optional<Entry> next() throws IOException {
+    int type = input.read();
+
+    if (type == -1) {
+      return Optional.empty();
+    }
+
+    RecordType recordType = RecordType.of((byte) type);
+
+    // the length is only needed by readers, that skip records
+    readVarLong();
+
+    List<Object> values = new ArrayList<>(recordType.values);
+
+    for (int i = 0; i < recordType.values; i++) {
+      values.add(readValue());
+    }
+
+    return Optional.of(new Entry(recordType, values));
+  }
+
+  @Override
+  public void close() throws IOException {
+    input.close();
+  }
+
+  // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+
+  private Object readValue() throws IOException {
+    byte tag = input.readByte();
+
+    return switch (tag) {
+      case NULL -> null;
+      case FALSE -> Boolean.FALSE;
+      case TRUE -> Boolean.TRUE;
+      case LONG -> unzigzag(readVarLong());
+      case INT -> (int) unzigzag(readVarLong());
+      case DOUBLE -> input.readDouble();
+      case STRING_DEF -> {
+        byte[] bytes = new byte[(int) readVarLong()];
+        input.readFully(bytes);
+
+        String s = new String(bytes, StandardCharsets.UTF_8);
+        strings.add(s);
+        yield s;
+      }
+      case STRING_REF -> strings.get((int) readVarLong());
+      case LIST -> {
+        int size = (int) readVarLong();
+        List<Object> list = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+          list.add(readValue());
+        }
+
+        yield list;
+      }
+      case MAP -> {
+        int size = (int) readVarLong();
+        Map<Object, Object> map = HashMap.newHashMap(size);
+
+        for (int i = 0; i < size; i++) {
+          Object key = readValue();
+          map.put(key, readValue());
+        }
+
+        yield map;
+      }
+      default -> throw new IOException("Unknown value tag: " + tag);
+    };
+  }
+
+  private long readVarLong() throws IOException {
+    long value = 0;
+
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      byte b = input.readByte();
+      value |= (long) (b & 0x7F) << shift;
+
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+
+    throw new IOException("Malformed varint!");
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * Record of the log.
+   *
+   * @param type of the record
+   * @param values of the record in the order given by the {@link RecordType}
+   */
+  public record Entry(RecordType type, List<Object> values) {
+
+    /** Returns the value with the given index. */
+    @SuppressWarnings("unchecked")
+    public <T> T get(int index) {
+      return (T) values.get(index);
+    }
+  }
+}
@@ -0,0 +1,293 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.recording;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Recorder, that writes all exchanges with mosaik into a binary log (see {@link LogFormat}). The
+ * calling thread only enqueues the exchanged objects. The records are encoded by a background
+ * thread and written into the log file through memory-mapped chunks. The queue is bounded. If it is
+ * full, the {@link OverflowPolicy} decides whether the calling thread waits or records are dropped.
+ *
+ * <p>The recorded objects are encoded asynchronously, therefore they must not be changed after they
+ * were handed to the recorder.
+ */
+public final class ExchangeRecorder implements AutoCloseable {
+  private static final Logger log = LoggerFactory.getLogger(ExchangeRecorder.class);
+
+  /** Size of the memory-mapped chunks of the log file. */
+  static final int CHUNK_SIZE = 1 << 26;
+
+  /** Default number of records, that can be queued. */
+  public static final int DEFAULT_CAPACITY = 256;
+
+  private static final Item POISON = new Item(null);
+
+  private final Path file;
+  private final FileChannel channel;
+  private final BlockingQueue<Item> queue;
+  private final OverflowPolicy overflow;
+  private final Thread writer;
+
+  // only used by the writer thread
+  private final ValueEncoder encoder = new ValueEncoder();
+  private MappedByteBuffer chunk;
+  private long chunkStart;
+
+  private volatile boolean closed;
+  private volatile boolean failed;
+  private volatile long bytesWritten;
+
+  private final AtomicLong enqueued = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private volatile long written;
+
+  private ExchangeRecorder(Path file, FileChannel channel, int capacity, OverflowPolicy overflow) {
+    this.file = file;
+    this.channel = channel;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.overflow = overflow;
+    this.writer = new Thread(this::run, "simosaik-recorder");
+    this.writer.setDaemon(true);
+  }
+
+  /**
+   * Opens a new recorder, that writes to the given file. An existing file is replaced.
+   *
+   * @param file of the log
+   * @return a new recorder
+   * @throws IOException if the file cannot be opened
+   */
+  public static ExchangeRecorder open(Path file) throws IOException {
+    return open(file, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+  }
+
+  /**
+   * Opens a new recorder, that writes to the given file. An existing file is replaced.
+   *
+   * @param file of the log
+   * @param capacity number of records, that can be queued
+   * @param overflow policy, if the queue is full
+   * @return a new recorder
+   * @throws IOException if the file cannot be opened
+   */
+  public static ExchangeRecorder open(Path file, int capacity, OverflowPolicy overflow)
+      throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+
+    ExchangeRecorder recorder = new ExchangeRecorder(file, channel, capacity, overflow);
+    recorder.write(ByteBuffer.wrap(LogFormat.MAGIC));
+    recorder.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, LogFormat.VERSION));
+    recorder.writer.start();
+    return recorder;
+  }
+
+  /** Returns the file of the log. */
+  public Path file() {
+    return file;
+  }
+
+  /** Returns the number of bytes, that were written so far. */
+  public long bytesWritten() {
+    return bytesWritten;
+  }
+
+  /** Returns the number of dropped records. */
+  public long dropped() {
+    return dropped.get();
+  }
+
+  public void recordInit(String sid, Double timeResolution, Map<String, Object> simParams) {
+    enqueue(new Item(RecordType.INIT, sid, timeResolution, simParams));
+  }
+
+  public void recordCreate(int num, String model, Map<String, Object> modelParams) {
+    enqueue(new Item(RecordType.CREATE, (long) num, model, modelParams));
+  }
+
+  public void recordSetupDone() {
+    enqueue(new Item(RecordType.SETUP_DONE));
+  }
+
+  public void recordStep(long time, long maxAdvance, Map<String, Object> inputs) {
+    enqueue(new Item(RecordType.STEP, time, maxAdvance, inputs));
+  }
+
+  public void recordNextTick(long time, long nextTick) {
+    enqueue(new Item(RecordType.NEXT_TICK, time, nextTick));
+  }
+
+  public void recordGetData(
+      long time, Map<String, List<String>> request, Map<String, Object> response) {
+    enqueue(new Item(RecordType.GET_DATA, time, request, response));
+  }
+
+  /**
+   * Waits until all enqueued records are written.
+   *
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public void flush() throws InterruptedException {
+    long target = enqueued.get();
+
+    while (written < target && !failed && writer.isAlive()) {
+      LockSupport.parkNanos(10_000L);
+
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+    }
+  }
+
+  /**
+   * Writes all pending records and closes the log.
+   *
+   * @throws IOException if the log cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+
+    try {
+      // the writer thread empties the queue, unless it failed
+      while (writer.isAlive()) {
+        if (queue.offer(POISON, 10, TimeUnit.MILLISECONDS)) {
+          break;
+        }
+      }
+
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (dropped.get() > 0) {
+      log.warn(
+          "Dropped {} records, because the recording to '{}' could not keep up.",
+          dropped.get(),
+          file);
+    }
+
+    long size = bytesWritten;
+
+    if (chunk != null) {
+      chunk.force();
+      chunk = null;
+    }
+
+    // the last chunk is only partially used
+    channel.truncate(size);
+    channel.close();
+  }
+
+  // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+
+  private void enqueue(Item item) {
+    if (closed || failed) {
+      return;
+    }
+
+    // after the first dropped record, all following records are dropped as well
+    if (dropped.get() > 0 || !offer(item)) {
+      dropped.incrementAndGet();
+      return;
+    }
+
+    enqueued.incrementAndGet();
+  }
+
+  private boolean offer(Item item) {
+    if (overflow == OverflowPolicy.DROP) {
+      return queue.offer(item);
+    }
+
+    try {
+      // waits for the writer thread, unless it failed in the meantime
+      while (!queue.offer(item, 10, TimeUnit.MILLISECONDS)) {
+        if (failed || !writer.isAlive()) {
+          return false;
+        }
+      }
+
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void run() {
+    try {
+      while (true) {
+        Item item = queue.take();
+
+        if (item == POISON) {
+          return;
+        }
+
+        encoder.begin(item.type);
+
+        for (Object value : item.values) {
+          encoder.encode(value);
+        }
+
+        write(encoder.finish());
+        written++;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException | RuntimeException e) {
+      log.error("Stopped recording to '{}'.", file, e);
+      failed = true;
+      queue.clear();
+    }
+  }
+
+  private void write(ByteBuffer data) throws IOException {
+    while (data.hasRemaining()) {
+      if (chunk == null || !chunk.hasRemaining()) {
+        chunkStart = chunk == null ? 0 : chunkStart + chunk.capacity();
+        chunk = channel.map(FileChannel.MapMode.READ_WRITE, chunkStart, CHUNK_SIZE);
+      }
+
+      int length = Math.min(data.remaining(), chunk.remaining());
+      chunk.put(chunk.position(), data, data.position(), length);
+      chunk.position(chunk.position() + length);
+      data.position(data.position() + length);
+    }
+
+    bytesWritten = chunkStart + chunk.position();
+  }
+
+  /** Recorded exchange, that is encoded by the writer thread. */
+  private record Item(RecordType type, Object... values) {}
+}
@@ -0,0 +1,36 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.recording;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants of the binary exchange log format. A log starts with the {@link #MAGIC} bytes and the
+ * {@link #VERSION}, followed by the records. All values are tagged. Integral numbers and lengths
+ * are written as (zigzag) varints, doubles as their raw eight bytes. Strings are written once with
+ * an id, that is used by all further occurrences.
+ */
+final class LogFormat {
+  static final byte[] MAGIC = "SIMOSAIK".getBytes(StandardCharsets.US_ASCII);
+  static final int VERSION = 1;
+
+  // value tags
+  static final byte NULL = 0;
+  static final byte FALSE = 1;
+  static final byte TRUE = 2;
+  static final byte LONG = 3;
+  static final byte INT = 4;
+  static final byte DOUBLE = 5;
+  static final byte STRING_DEF = 6;
+  static final byte STRING_REF = 7;
+  static final byte LIST = 8;
+  static final byte MAP = 9;
+
+  private LogFormat() {
+    throw new Error("Do not instantiate utility class!");
+  }
+}
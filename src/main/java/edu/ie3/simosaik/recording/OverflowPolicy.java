@@ -0,0 +1,44 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.recording;
+
+import java.util.Locale;
+
+/** Policies of the {@link ExchangeRecorder}, if its queue is full. */
+public enum OverflowPolicy {
+  /** The calling thread waits, until the writer thread made room. No record is lost. */
+  BLOCK("block"),
+  /**
+   * The record and all following records are dropped. The log stays a consistent prefix of the
+   * exchanges, but is incomplete.
+   */
+  DROP("drop");
+
+  public final String name;
+
+  OverflowPolicy(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Method to parse an overflow policy.
+   *
+   * @param value name of the policy
+   * @return the overflow policy
+   */
+  public static OverflowPolicy parse(String value) {
+    String normalized = value.toLowerCase(Locale.ROOT);
+
+    for (OverflowPolicy policy : values()) {
+      if (policy.name.equals(normalized) || policy.name().equalsIgnoreCase(normalized)) {
+        return policy;
+      }
+    }
+
+    throw new IllegalArgumentException("Unknown overflow policy: " + value);
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.recording;
+
+/**
+ * Types of the records of an exchange log. Each record consists of the id of its type, the length
+ * of its payload and the payload, which is a sequence of encoded values.
+ */
+public enum RecordType {
+  /** Call of {@code init}: sid, time resolution and sim params. */
+  INIT(1, 3),
+  /** Call of {@code create}: number of entities, model and model params. */
+  CREATE(2, 3),
+  /** Call of {@code setupDone}. */
+  SETUP_DONE(3, 0),
+  /** Call of {@code step}: time, max advance and inputs. */
+  STEP(4, 3),
+  /** Result of {@code step}: time and next tick. */
+  NEXT_TICK(5, 2),
+  /** Call of {@code getData}: time, request and response. */
+  GET_DATA(6, 3);
+
+  public final byte id;
+
+  /** Number of values of the record. */
+  public final int values;
+
+  RecordType(int id, int values) {
+    this.id = (byte) id;
+    this.values = values;
+  }
+
+  /**
+   * Returns the record type with the given id.
+   *
+   * @param id of the record type
+   * @return the record type
+   */
+  public static RecordType of(byte id) {
+    for (RecordType type : values()) {
+      if (type.id == id) {
+        return type;
+      }
+    }
+
+    throw new IllegalArgumentException("Unknown record type: " + id);
+  }
+}
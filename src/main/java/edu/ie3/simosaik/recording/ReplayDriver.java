@@ -0,0 +1,166 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.recording;
+
+import edu.ie3.simosaik.MosaikSimulator;
+import java.nio.file.Path;
+import java.util.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Driver, that replays an exchange log recorded by the {@link ExchangeRecorder}. The recorded calls
+ * are executed directly on a {@link MosaikSimulator}, without mosaik. The returned next ticks and
+ * data are compared with the recorded ones, and the time spent inside the simulator is measured.
+ */
+public final class ReplayDriver {
+  private static final Logger log = LoggerFactory.getLogger(ReplayDriver.class);
+
+  private final MosaikSimulator simulator;
+  private final Path file;
+
+  public ReplayDriver(MosaikSimulator simulator, Path file) {
+    this.simulator = simulator;
+    this.file = file;
+  }
+
+  /**
+   * Replays the log.
+   *
+   * @return a summary of the replay
+   * @throws Exception if the log cannot be read or the simulator fails
+   */
+  @SuppressWarnings("unchecked")
+  public Summary run() throws Exception {
+    long steps = 0;
+    long requests = 0;
+    long tickMismatches = 0;
+    long dataMismatches = 0;
+
+    long stepNanos = 0;
+    long getDataNanos = 0;
+    long lastNextTick = Long.MIN_VALUE;
+
+    long start = System.nanoTime();
+
+    try (ExchangeLogReader reader = ExchangeLogReader.open(file)) {
+      Optional<ExchangeLogReader.Entry> maybeEntry;
+
+      while ((maybeEntry = reader.next()).isPresent()) {
+        ExchangeLogReader.Entry entry = maybeEntry.get();
+
+        switch (entry.type()) {
+          case INIT -> {
+            Map<String, Object> simParams = new HashMap<>(entry.<Map<String, Object>>get(2));
+
+            // the replay must not overwrite the log
+            simParams.remove("record");
+
+            simulator.init(entry.get(0), entry.get(1), simParams);
+          }
+          case CREATE ->
+              simulator.create(
+                  Math.toIntExact(entry.<Long>get(0)),
+                  entry.get(1),
+                  entry.<Map<String, Object>>get(2));
+          case SETUP_DONE -> simulator.setupDone();
+          case STEP -> {
+            long time = entry.<Long>get(0);
+            long callStart = System.nanoTime();
+            lastNextTick =
+                simulator.step(time, entry.<Map<String, Object>>get(2), entry.<Long>get(1));
+            stepNanos += System.nanoTime() - callStart;
+            steps++;
+          }
+          case NEXT_TICK -> {
+            long time = entry.<Long>get(0);
+            long recorded = entry.<Long>get(1);
+
+            if (recorded != lastNextTick) {
+              tickMismatches++;
+              log.warn(
+                  "[{}] Next tick {} differs from recorded next tick {}.",
+                  time,
+                  lastNextTick,
+                  recorded);
+            }
+          }
+          case GET_DATA -> {
+            long time = entry.<Long>get(0);
+            long callStart = System.nanoTime();
+            Map<String, Object> data = simulator.getData(entry.<Map<String, List<String>>>get(1));
+            getDataNanos += System.nanoTime() - callStart;
+            requests++;
+
+            if (!data.equals(entry.get(2))) {
+              dataMismatches++;
+              log.debug("[{}] Data differs from recorded data.", time);
+            }
+          }
+        }
+      }
+    } finally {
+      simulator.cleanup();
+    }
+
+    Summary summary =
+        new Summary(
+            steps,
+            requests,
+            tickMismatches,
+            dataMismatches,
+            stepNanos,
+            getDataNanos,
+            System.nanoTime() - start);
+
+    log.info("Replay of '{}' finished: {}", file, summary);
+    return summary;
+  }
+
+  /**
+   * Summary of a replay.
+   *
+   * @param steps number of replayed steps
+   * @param requests number of replayed data requests
+   * @param tickMismatches number of next ticks, that differ from the recorded ones
+   * @param dataMismatches number of data responses, that differ from the recorded ones
+   * @param stepNanos time spent in {@code step}
+   * @param getDataNanos time spent in {@code getData}
+   * @param totalNanos time of the replay including reading the log
+   */
+  public record Summary(
+      long steps,
+      long requests,
+      long tickMismatches,
+      long dataMismatches,
+      long stepNanos,
+      long getDataNanos,
+      long totalNanos) {
+
+    /** Returns the number of replayed steps per second of simulator time. */
+    public double stepsPerSecond() {
+      long nanos = stepNanos + getDataNanos;
+      return nanos > 0 ? steps * 1e9 / nanos : 0d;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          Locale.ROOT,
+          "%d steps, %d requests, %.1f steps/s, step %.3f ms, getData %.3f ms, total %.3f s, %d"
+              + " tick and %d data mismatches",
+          steps,
+          requests,
+          stepsPerSecond(),
+          steps > 0 ? stepNanos / 1e6 / steps : 0d,
+          requests > 0 ? getDataNanos / 1e6 / requests : 0d,
+          totalNanos / 1e9,
+          tickMismatches,
+          dataMismatches);
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.recording;
+
+import static edu.ie3.simosaik.recording.LogFormat.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Encoder for the values of the exchange log. The encoder keeps the table of all written strings,
+ * therefore all records of a log must be encoded by the same encoder. This class is not
+ * thread-safe.
+ */
+final class ValueEncoder {
+  private final Map<String, Integer> strings = new HashMap<>();
+  private ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+
+  // space in front of the payload for the record type and the length of the payload
+  private static final int HEADER = 1 + 5;
+
+  private RecordType type;
+
+  /** Starts a new record with the given type. */
+  void begin(RecordType type) {
+    this.type = type;
+    buffer.clear().position(HEADER);
+  }
+
+  /**
+   * Finishes the current record.
+   *
+   * @return a buffer containing the type, the length of the payload and the payload
+   */
+  ByteBuffer finish() {
+    int length = buffer.position() - HEADER;
+    int start = HEADER - 1 - varLongSize(length);
+
+    buffer.position(start);
+    buffer.put(type.id);
+    putVarLong(buffer, length);
+
+    return buffer.limit(HEADER + length).position(start);
+  }
+
+  /** Encodes the given value. */
+  void encode(Object value) {
+    switch (value) {
+      case null -> put(NULL);
+      case Boolean b -> put(b ? TRUE : FALSE);
+      case Long l -> {
+        put(LONG);
+        putVarLong(zigzag(l));
+      }
+      case Integer i -> {
+        put(INT);
+        putVarLong(zigzag(i));
+      }
+      case Double d -> {
+        ensure(9);
+        buffer.put(DOUBLE);
+        buffer.putDouble(d);
+      }
+      case String s -> encodeString(s);
+      case List<?> list -> {
+        put(LIST);
+        putVarLong(list.size());
+        list.forEach(this::encode);
+      }
+      case Map<?, ?> map -> {
+        put(MAP);
+        putVarLong(map.size());
+        map.forEach(
+            (k, v) -> {
+              encode(k);
+              encode(v);
+            });
+      }
+      case Number n -> {
+        // other numbers are not produced by mosaik or simosaik
+        ensure(9);
+        buffer.put(DOUBLE);
+        buffer.putDouble(n.doubleValue());
+      }
+      default -> encodeString(value.toString());
+    }
+  }
+
+  private void encodeString(String s) {
+    Integer id = strings.get(s);
+
+    if (id != null) {
+      put(STRING_REF);
+      putVarLong(id);
+    } else {
+      byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+      strings.put(s, strings.size());
+
+      put(STRING_DEF);
+      putVarLong(bytes.length);
+      ensure(bytes.length);
+      buffer.put(bytes);
+    }
+  }
+
+  private void put(byte b) {
+    ensure(1);
+    buffer.put(b);
+  }
+
+  private void putVarLong(long value) {
+    ensure(10);
+    putVarLong(buffer, value);
+  }
+
+  private void ensure(int bytes) {
+    if (buffer.remaining() < bytes) {
+      int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+      buffer = ByteBuffer.allocate(capacity).put(buffer.flip());
+    }
+  }
+
+  private static int varLongSize(long value) {
+    int size = 1;
+
+    while ((value & ~0x7FL) != 0) {
+      size++;
+      value >>>= 7;
+    }
+
+    return size;
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static void putVarLong(ByteBuffer target, long value) {
+    while ((value & ~0x7FL) != 0) {
+      target.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+
+    target.put((byte) value);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.synchronization;
+
+import java.util.List;
+
+/**
+ * Read-only view of the schedule of the next inputs of mosaik. The view is shared between mosaik
+ * and the external simulation, so that the external simulation can skip the ticks, in which neither
+ * mosaik sends inputs nor SIMONA has scheduled activities. Only the simulator, that is stepped by
+ * mosaik, holds the {@link MutableInputSchedule}, that is updated.
+ */
+public interface InputSchedule {
+
+  /** Next input tick, if no inputs are expected. */
+  long NO_INPUT = Long.MAX_VALUE;
+
+  /**
+   * Returns a schedule, that expects the earliest input of all given schedules. The returned
+   * schedule follows the updates of the given schedules.
+   *
+   * @param parts schedules to combine
+   * @return the combined schedule
+   */
+  static InputSchedule union(List<? extends InputSchedule> parts) {
+    return parts.size() == 1 ? parts.getFirst() : new Union(List.copyOf(parts));
+  }
+
+  /** Returns the first SIMONA tick, in which mosaik can send new inputs. */
+  long nextInputTick();
+
+  /**
+   * Union of the schedules of multiple simulators.
+   *
+   * @param parts schedules to combine
+   */
+  record Union(List<InputSchedule> parts) implements InputSchedule {
+
+    @Override
+    public long nextInputTick() {
+      return parts.stream().mapToLong(InputSchedule::nextInputTick).min().orElse(NO_INPUT);
+    }
+  }
+}
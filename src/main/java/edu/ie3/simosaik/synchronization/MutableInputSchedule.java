@@ -0,0 +1,34 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.synchronization;
+
+/**
+ * Schedule of the next inputs of mosaik. In every step, mosaik tells the simulator with {@code
+ * max_advance}, up to which time no new inputs can arrive. The schedule is updated by the
+ * simulator, while the external simulation only gets the {@link InputSchedule} view.
+ *
+ * <p>A new schedule expects inputs in the first tick.
+ */
+public final class MutableInputSchedule implements InputSchedule {
+
+  private volatile long nextInputTick;
+
+  /**
+   * Updates the schedule with the information of the current step.
+   *
+   * @param nextInputTick first SIMONA tick, in which mosaik can send new inputs, or {@link
+   *     #NO_INPUT}
+   */
+  public void update(long nextInputTick) {
+    this.nextInputTick = nextInputTick;
+  }
+
+  @Override
+  public long nextInputTick() {
+    return nextInputTick;
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.synchronization;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free rendezvous between two parties, that exchange data once per tick. The first party
+ * (mosaik) hands over an input and waits for the output, while the second party (SIMONA) waits for
+ * the input and provides the output after processing it.
+ *
+ * @param <I> type of the input
+ * @param <O> type of the output
+ */
+public final class TickRendezvous<I, O> {
+
+  private final Slot<I> inputSlot = new Slot<>();
+  private final Slot<O> outputSlot = new Slot<>();
+  private volatile WaitStrategy waitStrategy;
+
+  // notified after each input is handed over
+  private volatile Runnable inputListener = () -> {};
+
+  public TickRendezvous(WaitStrategy waitStrategy) {
+    this.waitStrategy = waitStrategy;
+  }
+
+  public WaitStrategy getWaitStrategy() {
+    return waitStrategy;
+  }
+
+  public void setWaitStrategy(WaitStrategy waitStrategy) {
+    this.waitStrategy = waitStrategy;
+  }
+
+  /**
+   * Sets a listener, that is notified after each input is handed over. This allows a party to wait
+   * for the inputs of multiple rendezvous with {@link #pollInput()}.
+   *
+   * @param inputListener to notify
+   */
+  public void setInputListener(Runnable inputListener) {
+    this.inputListener = inputListener;
+  }
+
+  /**
+   * Method to hand over the given input to the other party and to wait for its output.
+   *
+   * @param input for the other party
+   * @return the output of the other party
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public O exchange(I input) throws InterruptedException {
+    inputSlot.put(input);
+    inputListener.run();
+    return outputSlot.take(waitStrategy);
+  }
+
+  /**
+   * Method to wait for the next input.
+   *
+   * @return the input
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public I awaitInput() throws InterruptedException {
+    return inputSlot.take(waitStrategy);
+  }
+
+  /**
+   * Method to take the next input without waiting.
+   *
+   * @return the input or {@code null}, if no input was handed over
+   */
+  public I pollInput() {
+    return inputSlot.poll();
+  }
+
+  /**
+   * Method to provide the output for the party waiting in {@link #exchange(Object)}.
+   *
+   * @param output to provide
+   */
+  public void provideOutput(O output) {
+    outputSlot.put(output);
+  }
+
+  /**
+   * Single-item slot. Only one thread is allowed to take items from a slot.
+   *
+   * @param <T> type of the item
+   */
+  private static final class Slot<T> {
+    /** Number of spins, before the thread yields or parks. */
+    private static final int SPINS = 1 << 10;
+
+    private final AtomicReference<T> item = new AtomicReference<>();
+    private volatile Thread waiter;
+
+    private void put(T value) {
+      item.set(value);
+
+      Thread thread = waiter;
+      if (thread != null) {
+        LockSupport.unpark(thread);
+      }
+    }
+
+    private T poll() {
+      return item.getAndSet(null);
+    }
+
+    private T take(WaitStrategy strategy) throws InterruptedException {
+      T value;
+      int spins = 0;
+
+      while ((value = item.getAndSet(null)) == null) {
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+
+        switch (strategy) {
+          case BUSY_SPIN -> Thread.onSpinWait();
+          case SPIN_THEN_YIELD -> {
+            if (spins++ < SPINS) {
+              Thread.onSpinWait();
+            } else {
+              Thread.yield();
+            }
+          }
+          case PARK -> {
+            if (spins++ < SPINS) {
+              Thread.onSpinWait();
+            } else {
+              // register before checking again, so a concurrent put cannot be missed
+              waiter = Thread.currentThread();
+
+              if (item.get() == null) {
+                LockSupport.park(this);
+              }
+
+              waiter = null;
+            }
+          }
+        }
+      }
+
+      return value;
+    }
+  }
+}
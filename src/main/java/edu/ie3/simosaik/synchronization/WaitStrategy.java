@@ -0,0 +1,43 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.synchronization;
+
+import java.util.Locale;
+
+/** Strategies that can be used by a {@link TickRendezvous} to wait for the other party. */
+public enum WaitStrategy {
+  /** Busy-spins until the other party arrives. Lowest latency, but occupies a whole core. */
+  BUSY_SPIN("busy_spin"),
+  /** Spins for a short while and yields the thread afterwards. */
+  SPIN_THEN_YIELD("yield"),
+  /** Spins for a short while and parks the thread afterwards, until it is woken up. */
+  PARK("park");
+
+  public final String name;
+
+  WaitStrategy(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Method to parse a wait strategy.
+   *
+   * @param value name of the strategy
+   * @return the wait strategy
+   */
+  public static WaitStrategy parse(String value) {
+    String normalized = value.toLowerCase(Locale.ROOT);
+
+    for (WaitStrategy strategy : values()) {
+      if (strategy.name.equals(normalized) || strategy.name().equalsIgnoreCase(normalized)) {
+        return strategy;
+      }
+    }
+
+    throw new IllegalArgumentException("Unknown wait strategy: " + value);
+  }
+}
@@ -0,0 +1,414 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.transport;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Streaming parser for the json messages of mosaik, that reads directly from the utf-8 bytes of a
+ * message. The parsed values have the same types as the values of json-simple, that is used by
+ * mosaik-api-java: objects are {@link HashMap}s, arrays are {@link ArrayList}s, integers are {@link
+ * Long}s and all other numbers are {@link Double}s.
+ *
+ * <p>Mosaik sends the same entity ids and attributes in every step. Therefore, short ascii strings
+ * are interned in a fixed size table, so that a repeated string is not created again. This class is
+ * not thread-safe.
+ */
+public final class JsonReader {
+  private static final int TABLE_SIZE = 1 << 14;
+  private static final int MAX_INTERNED_LENGTH = 64;
+
+  // powers of ten, that can be represented exactly as double
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  // interned strings, a slot is replaced on collision
+  private final String[] table = new String[TABLE_SIZE];
+
+  private ByteBuffer buffer;
+  private int position;
+  private int limit;
+
+  /**
+   * Parses the json value between the position and the limit of the given buffer. The position of
+   * the buffer is not changed.
+   *
+   * @param buffer containing the utf-8 bytes of the value
+   * @return the parsed value
+   * @throws IOException if the buffer does not contain a valid json value
+   */
+  public Object parse(ByteBuffer buffer) throws IOException {
+    this.buffer = buffer;
+    this.position = buffer.position();
+    this.limit = buffer.limit();
+
+    try {
+      Object value = value();
+      skipWhitespace();
+
+      if (position != limit) {
+        throw error("Unexpected data after the json value");
+      }
+
+      return value;
+    } finally {
+      this.buffer = null;
+    }
+  }
+
+  private Object value() throws IOException {
+    skipWhitespace();
+
+    if (position >= limit) {
+      throw error("Unexpected end of the message");
+    }
+
+    byte b = buffer.get(position);
+
+    return switch (b) {
+      case '{' -> object();
+      case '[' -> array();
+      case '"' -> string();
+      case 't' -> literal("true", Boolean.TRUE);
+      case 'f' -> literal("false", Boolean.FALSE);
+      case 'n' -> literal("null", null);
+      default -> {
+        if (b == '-' || (b >= '0' && b <= '9')) {
+          yield number();
+        }
+
+        throw error("Unexpected character '" + (char) b + "'");
+      }
+    };
+  }
+
+  private Map<String, Object> object() throws IOException {
+    Map<String, Object> map = new HashMap<>();
+    position++;
+    skipWhitespace();
+
+    if (peek() == '}') {
+      position++;
+      return map;
+    }
+
+    while (true) {
+      skipWhitespace();
+
+      if (peek() != '"') {
+        throw error("Expected a key");
+      }
+
+      String key = string();
+      skipWhitespace();
+      expect(':');
+      map.put(key, value());
+      skipWhitespace();
+
+      byte b = next();
+
+      if (b == '}') {
+        return map;
+      } else if (b != ',') {
+        throw error("Expected ',' or '}'");
+      }
+    }
+  }
+
+  private List<Object> array() throws IOException {
+    List<Object> list = new ArrayList<>();
+    position++;
+    skipWhitespace();
+
+    if (peek() == ']') {
+      position++;
+      return list;
+    }
+
+    while (true) {
+      list.add(value());
+      skipWhitespace();
+
+      byte b = next();
+
+      if (b == ']') {
+        return list;
+      } else if (b != ',') {
+        throw error("Expected ',' or ']'");
+      }
+    }
+  }
+
+  private String string() throws IOException {
+    int start = ++position;
+    int hash = 0;
+    boolean ascii = true;
+
+    // fast path for strings without escapes
+    while (position < limit) {
+      byte b = buffer.get(position);
+
+      if (b == '"') {
+        int length = position - start;
+        position++;
+        return ascii ? ascii(start, length, hash) : utf8(start, length);
+      } else if (b == '\\') {
+        break;
+      }
+
+      ascii &= b >= 0;
+      hash = 31 * hash + b;
+      position++;
+    }
+
+    return escaped(start);
+  }
+
+  /** Returns the interned string of the given ascii bytes. */
+  private String ascii(int start, int length, int hash) {
+    if (length > MAX_INTERNED_LENGTH) {
+      return newString(start, length, StandardCharsets.ISO_8859_1);
+    }
+
+    int slot = (hash ^ (hash >>> 16)) & (TABLE_SIZE - 1);
+    String interned = table[slot];
+
+    if (interned != null && matches(interned, start, length)) {
+      return interned;
+    }
+
+    String string = newString(start, length, StandardCharsets.ISO_8859_1);
+    table[slot] = string;
+    return string;
+  }
+
+  private boolean matches(String string, int start, int length) {
+    if (string.length() != length) {
+      return false;
+    }
+
+    for (int i = 0; i < length; i++) {
+      if (string.charAt(i) != buffer.get(start + i)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private String utf8(int start, int length) {
+    return newString(start, length, StandardCharsets.UTF_8);
+  }
+
+  private String newString(int start, int length, Charset charset) {
+    if (buffer.hasArray()) {
+      return new String(buffer.array(), buffer.arrayOffset() + start, length, charset);
+    }
+
+    byte[] bytes = new byte[length];
+    buffer.get(start, bytes);
+    return new String(bytes, charset);
+  }
+
+  /** Slow path for strings with escapes. */
+  private String escaped(int start) throws IOException {
+    StringBuilder builder = new StringBuilder();
+    position = start;
+    int run = start;
+
+    while (position < limit) {
+      byte b = buffer.get(position);
+
+      if (b == '"') {
+        builder.append(utf8(run, position - run));
+        position++;
+        return builder.toString();
+      } else if (b == '\\') {
+        builder.append(utf8(run, position - run));
+        position++;
+
+        byte escape = next();
+
+        switch (escape) {
+          case '"', '\\', '/' -> builder.append((char) escape);
+          case 'b' -> builder.append('\b');
+          case 'f' -> builder.append('\f');
+          case 'n' -> builder.append('\n');
+          case 'r' -> builder.append('\r');
+          case 't' -> builder.append('\t');
+          case 'u' -> {
+            if (position + 4 > limit) {
+              throw error("Invalid unicode escape");
+            }
+
+            int code = 0;
+
+            for (int i = 0; i < 4; i++) {
+              int digit = Character.digit(buffer.get(position++), 16);
+
+              if (digit < 0) {
+                throw error("Invalid unicode escape");
+              }
+
+              code = code * 16 + digit;
+            }
+
+            builder.append((char) code);
+          }
+          default -> throw error("Invalid escape '\\" + (char) escape + "'");
+        }
+
+        run = position;
+      } else {
+        position++;
+      }
+    }
+
+    throw error("Unterminated string");
+  }
+
+  private Object number() throws IOException {
+    int start = position;
+    boolean negative = peek() == '-';
+
+    if (negative) {
+      position++;
+    }
+
+    long mantissa = 0L;
+    int digits = 0;
+    int exponent = 0;
+    boolean integer = true;
+
+    while (position < limit && isDigit(buffer.get(position))) {
+      mantissa = append(mantissa, buffer.get(position++), digits);
+      digits += mantissa != 0L ? 1 : 0;
+    }
+
+    if (position < limit && buffer.get(position) == '.') {
+      integer = false;
+      position++;
+
+      while (position < limit && isDigit(buffer.get(position))) {
+        mantissa = append(mantissa, buffer.get(position++), digits);
+        digits += mantissa != 0L ? 1 : 0;
+        exponent--;
+      }
+    }
+
+    if (position < limit && (buffer.get(position) == 'e' || buffer.get(position) == 'E')) {
+      integer = false;
+      position++;
+
+      boolean negativeExponent = false;
+
+      if (position < limit && (buffer.get(position) == '+' || buffer.get(position) == '-')) {
+        negativeExponent = buffer.get(position++) == '-';
+      }
+
+      int explicit = 0;
+
+      while (position < limit && isDigit(buffer.get(position))) {
+        explicit = Math.min(explicit * 10 + buffer.get(position++) - '0', 10_000);
+      }
+
+      exponent += negativeExponent ? -explicit : explicit;
+    }
+
+    if (position == start + (negative ? 1 : 0)) {
+      throw error("Invalid number");
+    }
+
+    if (digits > 18) {
+      // too many digits for the fast path
+      String text = newString(start, position - start, StandardCharsets.ISO_8859_1);
+      return integer ? parseInteger(text) : Double.valueOf(text);
+    }
+
+    if (integer) {
+      return negative ? -mantissa : mantissa;
+    }
+
+    // exact, since both the mantissa and the power of ten are exact doubles
+    if (digits <= 15 && Math.abs(exponent) < POWERS_OF_TEN.length) {
+      double value =
+          exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+      return negative ? -value : value;
+    }
+
+    return Double.valueOf(newString(start, position - start, StandardCharsets.ISO_8859_1));
+  }
+
+  private static long append(long mantissa, byte digit, int digits) {
+    // digits after the 18th are only counted, so that the slow path is taken
+    return digits < 18 ? mantissa * 10 + (digit - '0') : mantissa;
+  }
+
+  private static Object parseInteger(String text) {
+    try {
+      return Long.valueOf(text);
+    } catch (NumberFormatException e) {
+      return Double.valueOf(text);
+    }
+  }
+
+  private Object literal(String literal, Object value) throws IOException {
+    for (int i = 0; i < literal.length(); i++) {
+      if (next() != literal.charAt(i)) {
+        throw error("Invalid literal");
+      }
+    }
+
+    return value;
+  }
+
+  private static boolean isDigit(byte b) {
+    return b >= '0' && b <= '9';
+  }
+
+  private void skipWhitespace() {
+    while (position < limit) {
+      byte b = buffer.get(position);
+
+      if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+        return;
+      }
+
+      position++;
+    }
+  }
+
+  private byte peek() throws IOException {
+    if (position >= limit) {
+      throw error("Unexpected end of the message");
+    }
+
+    return buffer.get(position);
+  }
+
+  private byte next() throws IOException {
+    byte b = peek();
+    position++;
+    return b;
+  }
+
+  private void expect(char c) throws IOException {
+    if (next() != c) {
+      throw error("Expected '" + c + "'");
+    }
+  }
+
+  private IOException error(String message) {
+    return new IOException(message + " at position " + position + " of the json message.");
+  }
+}
@@ -0,0 +1,297 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.transport;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.BiConsumer;
+import org.json.simple.JSONAware;
+
+/**
+ * Streaming writer for the json messages sent to mosaik, that writes the utf-8 bytes of a message
+ * directly into a reusable buffer. Numbers are written from their primitive value without creating
+ * strings, and maps are written without iterating over their entries. The written json is
+ * compatible with json-simple, e.g. {@code NaN} and infinite values are written as {@code null}.
+ * This class is not thread-safe.
+ */
+public final class JsonWriter {
+  private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+  private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+  private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+  private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+  private ByteBuffer buffer;
+
+  // reused for the digits of numbers
+  private final StringBuilder digits = new StringBuilder(32);
+
+  // true, if the next map entry is the first entry of its map
+  private boolean first;
+  private final BiConsumer<Object, Object> entryWriter = this::entry;
+
+  public JsonWriter() {
+    this(ByteBuffer.allocate(1 << 16));
+  }
+
+  /**
+   * Creates a writer, that writes into the given buffer. If the buffer is too small, it is replaced
+   * by a larger buffer of the same kind.
+   *
+   * @param buffer to write into
+   */
+  public JsonWriter(ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Starts a new message at the given position of the buffer. The bytes in front of the position
+   * can be used for a header.
+   *
+   * @param position of the message in the buffer
+   */
+  public void begin(int position) {
+    buffer.clear().position(position);
+  }
+
+  /**
+   * Finishes the current message.
+   *
+   * @return the buffer with the limit set to the end of the message
+   */
+  public ByteBuffer finish() {
+    return buffer.flip();
+  }
+
+  /**
+   * Writes the given value.
+   *
+   * @param value to write
+   */
+  public void write(Object value) {
+    switch (value) {
+      case null -> put(NULL);
+      case String s -> writeString(s);
+      case Double d -> writeDouble(d);
+      case Float f -> {
+        // same digits as json-simple, that writes the float itself
+        if (f.isNaN() || f.isInfinite()) {
+          put(NULL);
+        } else {
+          digits.setLength(0);
+          putDigits(digits.append((float) f));
+        }
+      }
+      case Long l -> writeLong(l);
+      case Integer i -> writeLong(i);
+      case Short s -> writeLong(s);
+      case Byte b -> writeLong(b);
+      case Boolean b -> put(b ? TRUE : FALSE);
+      case Map<?, ?> map -> writeMap(map);
+      case List<?> list -> writeList(list);
+      case Collection<?> collection -> writeCollection(collection);
+      case JSONAware aware -> putRaw(aware.toJSONString());
+      default -> writeString(value.toString());
+    }
+  }
+
+  /**
+   * Writes a number without boxing it. Infinite values and {@code NaN} are written as {@code null}.
+   *
+   * @param value to write
+   */
+  public void writeDouble(double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      put(NULL);
+      return;
+    }
+
+    digits.setLength(0);
+    putDigits(digits.append(value));
+  }
+
+  /**
+   * Writes an integer without boxing it.
+   *
+   * @param value to write
+   */
+  public void writeLong(long value) {
+    digits.setLength(0);
+    putDigits(digits.append(value));
+  }
+
+  /**
+   * Writes a string.
+   *
+   * @param value to write
+   */
+  public void writeString(String value) {
+    int length = value.length();
+    ensure(length + 2);
+    buffer.put((byte) '"');
+
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+
+      if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+        ensure(1);
+        buffer.put((byte) c);
+      } else {
+        writeChar(value, i, c);
+
+        // a surrogate pair is written at once
+        if (Character.isHighSurrogate(c)
+            && i + 1 < length
+            && Character.isLowSurrogate(value.charAt(i + 1))) {
+          i++;
+        }
+      }
+    }
+
+    ensure(1);
+    buffer.put((byte) '"');
+  }
+
+  private void writeChar(String value, int index, char c) {
+    ensure(6);
+
+    switch (c) {
+      case '"' -> putEscape('"');
+      case '\\' -> putEscape('\\');
+      case '\b' -> putEscape('b');
+      case '\f' -> putEscape('f');
+      case '\n' -> putEscape('n');
+      case '\r' -> putEscape('r');
+      case '\t' -> putEscape('t');
+      default -> {
+        if (c < 0x20) {
+          buffer.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0');
+          buffer.put(HEX[c >> 4]).put(HEX[c & 0xF]);
+        } else if (c < 0x800) {
+          buffer.put((byte) (0xC0 | (c >> 6)));
+          buffer.put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c)
+            && index + 1 < value.length()
+            && Character.isLowSurrogate(value.charAt(index + 1))) {
+          int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+          buffer.put((byte) (0xF0 | (codePoint >> 18)));
+          buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+          buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+          buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+        } else if (Character.isSurrogate(c)) {
+          // unpaired surrogates cannot be encoded in utf-8
+          buffer.put((byte) '?');
+        } else {
+          buffer.put((byte) (0xE0 | (c >> 12)));
+          buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+          buffer.put((byte) (0x80 | (c & 0x3F)));
+        }
+      }
+    }
+  }
+
+  private void writeMap(Map<?, ?> map) {
+    ensure(1);
+    buffer.put((byte) '{');
+
+    // forEach does not create an entry for each element of most maps
+    first = true;
+    map.forEach(entryWriter);
+    first = false;
+
+    ensure(1);
+    buffer.put((byte) '}');
+  }
+
+  private void entry(Object key, Object value) {
+    if (!first) {
+      ensure(1);
+      buffer.put((byte) ',');
+    }
+
+    first = false;
+    writeString(String.valueOf(key));
+    ensure(1);
+    buffer.put((byte) ':');
+    write(value);
+  }
+
+  private void writeList(List<?> list) {
+    if (!(list instanceof RandomAccess)) {
+      writeCollection(list);
+      return;
+    }
+
+    ensure(1);
+    buffer.put((byte) '[');
+
+    for (int i = 0; i < list.size(); i++) {
+      if (i > 0) {
+        ensure(1);
+        buffer.put((byte) ',');
+      }
+
+      write(list.get(i));
+    }
+
+    ensure(1);
+    buffer.put((byte) ']');
+  }
+
+  private void writeCollection(Collection<?> collection) {
+    ensure(1);
+    buffer.put((byte) '[');
+    boolean firstElement = true;
+
+    for (Object element : collection) {
+      if (!firstElement) {
+        ensure(1);
+        buffer.put((byte) ',');
+      }
+
+      firstElement = false;
+      write(element);
+    }
+
+    ensure(1);
+    buffer.put((byte) ']');
+  }
+
+  private void putEscape(char c) {
+    buffer.put((byte) '\\').put((byte) c);
+  }
+
+  private void putDigits(CharSequence chars) {
+    int length = chars.length();
+    ensure(length);
+
+    for (int i = 0; i < length; i++) {
+      buffer.put((byte) chars.charAt(i));
+    }
+  }
+
+  private void putRaw(String json) {
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    ensure(bytes.length);
+    buffer.put(bytes);
+  }
+
+  private void put(byte[] bytes) {
+    ensure(bytes.length);
+    buffer.put(bytes);
+  }
+
+  private void ensure(int bytes) {
+    if (buffer.remaining() < bytes) {
+      int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+      ByteBuffer larger =
+          buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+      larger.put(buffer.flip());
+      buffer = larger;
+    }
+  }
+}
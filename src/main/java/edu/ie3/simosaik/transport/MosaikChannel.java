@@ -0,0 +1,50 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Connection to mosaik, that reads and writes the frames of the mosaik socket protocol. Each frame
+ * consists of the length of the message as four byte big endian integer, followed by the utf-8
+ * bytes of the json message.
+ */
+public interface MosaikChannel extends Closeable {
+
+  /** Number of bytes of the frame header. */
+  int HEADER = 4;
+
+  /**
+   * Reads the next message. The returned buffer is reused by the next read.
+   *
+   * @return the buffer with the message between its position and limit, or {@code null}, if mosaik
+   *     closed the connection
+   * @throws IOException if the message cannot be read
+   */
+  ByteBuffer read() throws IOException;
+
+  /**
+   * Allocates a buffer for the frames written to this channel.
+   *
+   * @param capacity of the buffer
+   * @return a buffer, that can be written efficiently by this channel
+   */
+  default ByteBuffer allocate(int capacity) {
+    return ByteBuffer.allocate(capacity);
+  }
+
+  /**
+   * Writes a frame. The message starts after the first {@link #HEADER} bytes of the given buffer,
+   * which are set to the length of the message.
+   *
+   * @param frame buffer with the frame between position zero and its limit
+   * @throws IOException if the frame cannot be written
+   */
+  void write(ByteBuffer frame) throws IOException;
+}
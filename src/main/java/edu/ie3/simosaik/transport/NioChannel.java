@@ -0,0 +1,163 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.transport;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@link MosaikChannel} over a {@link SocketChannel}, that reads and writes the frames through
+ * reusable direct buffers. Thus, the bytes are not copied between the java heap and the socket.
+ * Besides tcp sockets, unix domain sockets are supported for mosaik processes on the same host.
+ */
+public final class NioChannel implements MosaikChannel {
+
+  /** Prefix of addresses, that are paths of unix domain sockets. */
+  public static final String UNIX_PREFIX = "unix:";
+
+  private final SocketChannel channel;
+
+  private final ByteBuffer header = ByteBuffer.allocateDirect(HEADER);
+  private ByteBuffer body = ByteBuffer.allocateDirect(1 << 16);
+
+  public NioChannel(SocketChannel channel) throws IOException {
+    this.channel = channel;
+
+    if (channel.getRemoteAddress() instanceof InetSocketAddress) {
+      channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    }
+  }
+
+  /**
+   * Opens the connection to mosaik with the same arguments as the {@code SimProcess} of
+   * mosaik-api-java: {@code [address]} connects to mosaik, while {@code [address, "server"]} waits
+   * for mosaik to connect to the address.
+   *
+   * @param args arguments of the simulator process
+   * @return the opened channel
+   * @throws IOException if the connection cannot be opened
+   */
+  public static NioChannel open(String[] args) throws IOException {
+    SocketAddress address = address(args[0]);
+
+    if (args.length > 1 && args[1].equals("server")) {
+      return new NioChannel(accept(address));
+    }
+
+    return new NioChannel(SocketChannel.open(address));
+  }
+
+  /**
+   * Waits for a single connection on the given address.
+   *
+   * @param address to listen on
+   * @return the accepted connection
+   * @throws IOException if no connection can be accepted
+   */
+  static SocketChannel accept(SocketAddress address) throws IOException {
+    if (!(address instanceof UnixDomainSocketAddress unix)) {
+      try (ServerSocketChannel server = ServerSocketChannel.open()) {
+        server.bind(address, 1);
+        return server.accept();
+      }
+    }
+
+    // the socket file of an earlier run would prevent binding
+    Path path = unix.getPath();
+    Files.deleteIfExists(path);
+
+    try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+      server.bind(address, 1);
+      return server.accept();
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  /**
+   * Parses an address in the form {@code host:port} or {@code unix:path}.
+   *
+   * @param address to parse
+   * @return the socket address
+   */
+  public static SocketAddress address(String address) {
+    if (address.startsWith(UNIX_PREFIX)) {
+      return UnixDomainSocketAddress.of(address.substring(UNIX_PREFIX.length()));
+    }
+
+    int separator = address.lastIndexOf(':');
+
+    if (separator < 0) {
+      throw new IllegalArgumentException(
+          "Expected an address 'host:port' or 'unix:path', but got: " + address);
+    }
+
+    String host = address.substring(0, separator);
+    int port = Integer.parseInt(address.substring(separator + 1));
+    return new InetSocketAddress(host, port);
+  }
+
+  @Override
+  public ByteBuffer read() throws IOException {
+    header.clear();
+
+    if (!readFully(header, true)) {
+      return null;
+    }
+
+    int length = header.getInt(0);
+
+    if (length > body.capacity()) {
+      body = ByteBuffer.allocateDirect(Math.max(length, body.capacity() * 2));
+    }
+
+    body.clear().limit(length);
+    readFully(body, false);
+    return body.flip();
+  }
+
+  /** Returns false, if the channel is closed before the first byte. */
+  private boolean readFully(ByteBuffer buffer, boolean endAllowed) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        if (endAllowed && buffer.position() == 0) {
+          return false;
+        }
+
+        throw new EOFException("Mosaik closed the connection within a message.");
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public ByteBuffer allocate(int capacity) {
+    return ByteBuffer.allocateDirect(capacity);
+  }
+
+  @Override
+  public void write(ByteBuffer frame) throws IOException {
+    frame.putInt(0, frame.limit() - HEADER);
+    frame.position(0);
+
+    while (frame.hasRemaining()) {
+      channel.write(frame);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.transport;
+
+import de.offis.mosaik.api.Simulator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replacement for the {@code SimProcess} of mosaik-api-java, that serves a {@link Simulator} with
+ * the {@link JsonReader} and {@link JsonWriter}. The messages are the same as with the {@code
+ * SimProcess}, so mosaik cannot tell the difference. Only the requests of mosaik are supported,
+ * since simosaik does not send requests to mosaik.
+ */
+public final class SimosaikProcess {
+  private static final Logger log = LoggerFactory.getLogger(SimosaikProcess.class);
+
+  static final int REQUEST = 0;
+  static final int SUCCESS = 1;
+  static final int FAILURE = 2;
+
+  private final MosaikChannel channel;
+  private final Simulator simulator;
+
+  private final JsonReader reader = new JsonReader();
+  private final JsonWriter writer;
+
+  public SimosaikProcess(MosaikChannel channel, Simulator simulator) {
+    this.channel = channel;
+    this.simulator = simulator;
+    this.writer = new JsonWriter(channel.allocate(1 << 16));
+  }
+
+  /**
+   * Connects to mosaik and serves the given simulator until mosaik stops it.
+   *
+   * @param args arguments of the simulator process, see {@link NioChannel#open(String[])}
+   * @param simulator to serve
+   * @throws Exception if the simulator fails
+   */
+  public static void startSimulation(String[] args, Simulator simulator) throws Exception {
+    try (MosaikChannel channel = NioChannel.open(args)) {
+      new SimosaikProcess(channel, simulator).run();
+    }
+  }
+
+  /**
+   * Handles the requests of mosaik until mosaik stops the simulator or closes the connection.
+   *
+   * @throws Exception if the simulator fails, the failure is also sent to mosaik
+   */
+  public void run() throws Exception {
+    while (true) {
+      ByteBuffer message = channel.read();
+
+      if (message == null) {
+        log.info("Mosaik closed the connection.");
+        simulator.cleanup();
+        return;
+      }
+
+      List<?> request = (List<?>) reader.parse(message);
+      int type = ((Number) request.get(0)).intValue();
+      Object id = request.get(1);
+
+      if (type != REQUEST) {
+        throw new IOException("Expected a request from mosaik, but got: " + request);
+      }
+
+      List<?> content = (List<?>) request.get(2);
+      String method = (String) content.get(0);
+
+      if (method.equals("stop")) {
+        // mosaik does not wait for a reply
+        simulator.cleanup();
+        return;
+      }
+
+      Object result;
+
+      try {
+        result = handle(method, (List<?>) content.get(1), map(content.get(2)));
+      } catch (Exception e) {
+        reply(FAILURE, id, "Failed to handle '" + method + "': " + e);
+        throw e;
+      }
+
+      reply(SUCCESS, id, result);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object handle(String method, List<?> args, Map<String, Object> kwargs) throws Exception {
+    return switch (method) {
+      case "init" -> {
+        Map<String, Object> simParams = new HashMap<>(kwargs);
+        Object timeResolution = simParams.remove("time_resolution");
+
+        yield simulator.init(
+            (String) args.getFirst(),
+            timeResolution instanceof Number number ? number.doubleValue() : 1d,
+            simParams);
+      }
+      case "create" ->
+          simulator.create(
+              ((Number) args.get(0)).intValue(), (String) args.get(1), new HashMap<>(kwargs));
+      case "setup_done" -> {
+        simulator.setupDone();
+        yield null;
+      }
+      case "step" -> {
+        long next =
+            simulator.step(
+                ((Number) args.get(0)).longValue(),
+                (Map<String, Object>) args.get(1),
+                ((Number) args.get(2)).longValue());
+
+        // a negative tick tells mosaik, that there is no next step
+        yield next < 0 ? null : next;
+      }
+      case "get_data" -> simulator.getData((Map<String, List<String>>) args.getFirst());
+      default -> throw new IllegalArgumentException("Unknown method '" + method + "'!");
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> map(Object kwargs) {
+    return kwargs instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+  }
+
+  private void reply(int type, Object id, Object result) throws IOException {
+    writer.begin(MosaikChannel.HEADER);
+    writer.write(Arrays.asList(type, id, result));
+    channel.write(writer.finish());
+  }
+}
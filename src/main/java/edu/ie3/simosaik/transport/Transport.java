@@ -0,0 +1,53 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.transport;
+
+import de.offis.mosaik.api.SimProcess;
+import de.offis.mosaik.api.Simulator;
+import java.util.Arrays;
+
+/** Enum of the transports, that connect a simulator to mosaik. */
+public enum Transport {
+  /** The {@code SimProcess} of mosaik-api-java, that uses json-simple. */
+  MOSAIK_API("mosaik-api"),
+  /** The {@link SimosaikProcess} with the streaming json codec of simosaik. */
+  SIMOSAIK("simosaik");
+
+  public final String name;
+
+  Transport(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Connects the given simulator to mosaik and serves it until mosaik stops it.
+   *
+   * @param args arguments of the simulator process, i.e. the address and optionally {@code
+   *     "server"}
+   * @param simulator to serve
+   * @throws Exception if the simulator fails
+   */
+  public void start(String[] args, Simulator simulator) throws Exception {
+    switch (this) {
+      case MOSAIK_API -> SimProcess.startSimulation(args, simulator);
+      case SIMOSAIK -> SimosaikProcess.startSimulation(args, simulator);
+    }
+  }
+
+  /**
+   * Method to parse a transport from a given string.
+   *
+   * @param name of the transport
+   * @return the transport
+   */
+  public static Transport parse(String name) {
+    return Arrays.stream(values())
+        .filter(transport -> transport.name.equalsIgnoreCase(name))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown transport '" + name + "'!"));
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import static edu.ie3.simosaik.SimosaikUnits.*;
+
+import edu.ie3.datamodel.models.result.NodeResult;
+import edu.ie3.datamodel.models.result.ResultEntity;
+import edu.ie3.datamodel.models.result.connector.LineResult;
+import edu.ie3.simosaik.utils.DeltaFilter.Tolerance;
+import java.util.*;
+
+/**
+ * Controller, that adapts the interval between two exchanges with mosaik to the volatility of the
+ * results. While all watched values stay within their bands, the interval grows by a factor up to a
+ * maximal step. As soon as one value leaves its band, the interval snaps back to the base step.
+ *
+ * <p>The watched values are the node voltages, the line currents and the active power of the em set
+ * points. Each value is compared to its reference, which is the value at the last time the band was
+ * left. Thus, a slow drift is detected as well. Voltages and currents are watched for all result
+ * assets of SIMONA, regardless of the results mosaik is subscribed to.
+ *
+ * <p>The controller is shared between mosaik and the external simulation. Mosaik passes the inputs
+ * of each step with {@link #observeInputs(Map)} before handing them over. The external simulation
+ * updates the interval with the results of the tick and schedules its next activation with {@link
+ * #nextTick(long, long, long, long)}, which is then also reported to mosaik. Thus, mosaik and
+ * SIMONA always skip the same steps.
+ */
+public final class AdaptiveStep {
+  private static final double DEFAULT_GROWTH = 2d;
+  private static final long DEFAULT_MAX_STEPS = 4L;
+
+  // indices of the result references
+  private static final int VOLTAGE = 0;
+  private static final int CURRENT = 1;
+
+  private final long maxSteps;
+  private final double growth;
+
+  // null for values, that are not watched
+  private final Tolerance voltageBand;
+  private final Tolerance currentBand;
+  private final Tolerance setPointBand;
+
+  // references of the results, only used by the external simulation
+  private final Map<UUID, double[]> resultReferences = new HashMap<>();
+
+  // references of the set points, only used by mosaik
+  private final Map<String, double[]> setPointReferences = new HashMap<>();
+
+  // set by mosaik before the exchange and reset by the external simulation
+  private boolean inputsMoved = false;
+
+  // current interval in multiples of the base step
+  private long steps = 1L;
+
+  private AdaptiveStep(
+      long maxSteps,
+      double growth,
+      Tolerance voltageBand,
+      Tolerance currentBand,
+      Tolerance setPointBand) {
+    this.maxSteps = maxSteps;
+    this.growth = growth;
+    this.voltageBand = voltageBand;
+    this.currentBand = currentBand;
+    this.setPointBand = setPointBand;
+  }
+
+  /**
+   * Method to parse the configuration provided by mosaik. The configuration contains the bands of
+   * the watched values under the key {@code bands}, using the attributes {@code u[pu]}, {@code
+   * I[A]} and {@code EM[setPoint]}. Each band is given like a tolerance of the {@link DeltaFilter}.
+   * Optionally, the maximal step ({@code max_step}) and the growth factor of the interval ({@code
+   * growth}) can be set.
+   *
+   * @param config of the adaptive step
+   * @param baseStep regular step size of mosaik
+   * @return a new controller
+   */
+  @SuppressWarnings("unchecked")
+  public static AdaptiveStep parse(Map<String, Object> config, long baseStep) {
+    if (!(config.get("bands") instanceof Map<?, ?> bands) || bands.isEmpty()) {
+      throw new IllegalArgumentException("The adaptive step needs at least one band!");
+    }
+
+    Map<String, Tolerance> parsed = new HashMap<>();
+
+    ((Map<String, Object>) bands)
+        .forEach(
+            (attr, value) -> {
+              if (!attr.equals(VOLTAGE_MAG)
+                  && !attr.equals(CURRENT_MAG)
+                  && !attr.equals(FLEX_SET_POINT)) {
+                throw new IllegalArgumentException(
+                    "No band can be set for attribute: "
+                        + attr
+                        + ". Valid attributes are: "
+                        + List.of(VOLTAGE_MAG, CURRENT_MAG, FLEX_SET_POINT));
+              }
+
+              parsed.put(attr, Tolerance.parse(attr, value));
+            });
+
+    long maxStep =
+        ((Number) config.getOrDefault("max_step", DEFAULT_MAX_STEPS * baseStep)).longValue();
+    double growth = ((Number) config.getOrDefault("growth", DEFAULT_GROWTH)).doubleValue();
+
+    if (maxStep < baseStep || maxStep % baseStep != 0) {
+      throw new IllegalArgumentException(
+          "The max step " + maxStep + " must be a multiple of the step size " + baseStep + "!");
+    }
+
+    if (growth <= 1d) {
+      throw new IllegalArgumentException("The growth " + growth + " must be greater than 1!");
+    }
+
+    return new AdaptiveStep(
+        maxStep / baseStep,
+        growth,
+        parsed.get(VOLTAGE_MAG),
+        parsed.get(CURRENT_MAG),
+        parsed.get(FLEX_SET_POINT));
+  }
+
+  /** Returns true, if node voltages or line currents are watched. */
+  public boolean watchesResults() {
+    return voltageBand != null || currentBand != null;
+  }
+
+  /**
+   * Compares the set points of the given inputs with their bands. This method is called by mosaik
+   * before the inputs are handed over to the external simulation.
+   *
+   * @param inputs of mosaik in the current step
+   */
+  public void observeInputs(Map<String, Object> inputs) {
+    if (setPointBand == null) {
+      return;
+    }
+
+    for (Map.Entry<String, Object> entry : inputs.entrySet()) {
+      if (entry.getValue() instanceof Map<?, ?> attrToData
+          && attrToData.get(FLEX_SET_POINT) instanceof Map<?, ?> senders) {
+        double[] reference = setPointReferences.computeIfAbsent(entry.getKey(), k -> references(1));
+
+        for (Object setPoint : senders.values()) {
+          if (setPoint instanceof Map<?, ?> values
+              && values.get(ACTIVE_POWER) instanceof Number power) {
+            inputsMoved |= leftBand(setPointBand, reference, 0, power.doubleValue());
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Updates the interval with the results of the current tick and the inputs observed before. This
+   * method is called by the external simulation.
+   *
+   * @param results map: uuid to results
+   */
+  public void update(Map<UUID, List<ResultEntity>> results) {
+    boolean moved = resultsMoved(results) | inputsMoved;
+    inputsMoved = false;
+
+    if (moved) {
+      steps = 1L;
+    } else {
+      steps = Math.min(maxSteps, (long) Math.ceil(steps * growth));
+    }
+  }
+
+  /**
+   * Delays the regular next step by the current interval.
+   *
+   * @param tick current tick
+   * @param nextStep regular next step
+   * @param stepSize base step size
+   * @param lastTick last tick of the simulation
+   * @return the next tick
+   */
+  public long nextTick(long tick, long nextStep, long stepSize, long lastTick) {
+    long delayed = nextStep + (steps - 1) * stepSize;
+
+    // the last tick is always exchanged
+    return tick < lastTick ? Math.min(delayed, lastTick) : delayed;
+  }
+
+  private boolean resultsMoved(Map<UUID, List<ResultEntity>> results) {
+    if (voltageBand == null && currentBand == null) {
+      return false;
+    }
+
+    boolean moved = false;
+
+    for (Map.Entry<UUID, List<ResultEntity>> entry : results.entrySet()) {
+      for (ResultEntity result : entry.getValue()) {
+        switch (result) {
+          case NodeResult node when voltageBand != null ->
+              moved |=
+                  leftBand(
+                      voltageBand,
+                      references(entry.getKey()),
+                      VOLTAGE,
+                      OutputUtils.toPu(node.getvMag()));
+          case LineResult line when currentBand != null ->
+              moved |=
+                  leftBand(
+                      currentBand,
+                      references(entry.getKey()),
+                      CURRENT,
+                      OutputUtils.toAmpere(
+                          line.getiAMag().isGreaterThanOrEqualTo(line.getiBMag())
+                              ? line.getiAMag()
+                              : line.getiBMag()));
+          case null, default -> {}
+        }
+      }
+    }
+
+    return moved;
+  }
+
+  private double[] references(UUID uuid) {
+    return resultReferences.computeIfAbsent(uuid, k -> references(2));
+  }
+
+  /** Updates the reference, if the value left its band. */
+  private static boolean leftBand(Tolerance band, double[] references, int i, double value) {
+    // the first value of an entity counts as a change as well
+    if (band.isExceeded(references[i], value)) {
+      references[i] = value;
+      return true;
+    }
+
+    return false;
+  }
+
+  private static double[] references(int size) {
+    double[] references = new double[size];
+    Arrays.fill(references, Double.NaN);
+    return references;
+  }
+}
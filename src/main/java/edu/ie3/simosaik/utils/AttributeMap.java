@@ -0,0 +1,218 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import edu.ie3.simosaik.ResultAttribute;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Map of the mosaik output data of one entity with a fixed layout for the {@link ResultAttribute}s.
+ * The values of result attributes are stored in a slot per attribute, so no hash entries are
+ * created for them. All other attributes, e.g. em data, are stored in an additional map, that is
+ * only created when needed. The map is cleared and reused by the {@link TickArena}.
+ *
+ * <p>The entries are returned in the order of the result attributes, followed by all other
+ * attributes.
+ */
+public final class AttributeMap extends AbstractMap<String, Object> {
+  private static final ResultAttribute[] RESULT_ATTRIBUTES = ResultAttribute.values();
+
+  // indexed by the ordinal of the result attribute
+  private final Object[] values = new Object[RESULT_ATTRIBUTES.length];
+
+  // mask of the result attributes with a value
+  private int mask;
+
+  // all other attributes, null until the first one is added
+  private Map<String, Object> other;
+
+  private Set<Map.Entry<String, Object>> entrySet;
+
+  /**
+   * Sets the value of a result attribute.
+   *
+   * @param attribute result attribute
+   * @param value of the attribute, not {@code null}
+   */
+  public void put(ResultAttribute attribute, Object value) {
+    values[attribute.ordinal()] = Objects.requireNonNull(value);
+    mask |= attribute.mask;
+  }
+
+  /** Returns the value of the given result attribute or {@code null}. */
+  public Object get(ResultAttribute attribute) {
+    return values[attribute.ordinal()];
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    ResultAttribute attribute = ResultAttribute.parse(key).orElse(null);
+
+    // result attributes cannot hold null, so a null value removes the attribute
+    if (attribute != null) {
+      if (value == null) {
+        return removeAttribute(attribute.ordinal());
+      }
+
+      Object previous = values[attribute.ordinal()];
+      put(attribute, value);
+      return previous;
+    }
+
+    if (other == null) {
+      other = new HashMap<>();
+    }
+
+    return other.put(key, value);
+  }
+
+  @Override
+  public Object get(Object key) {
+    ResultAttribute attribute = resultAttribute(key);
+
+    if (attribute != null) {
+      return values[attribute.ordinal()];
+    }
+
+    return other != null ? other.get(key) : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    ResultAttribute attribute = resultAttribute(key);
+
+    if (attribute != null) {
+      return attribute.isIn(mask);
+    }
+
+    return other != null && other.containsKey(key);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    ResultAttribute attribute = resultAttribute(key);
+
+    if (attribute != null) {
+      return removeAttribute(attribute.ordinal());
+    }
+
+    return other != null ? other.remove(key) : null;
+  }
+
+  @Override
+  public int size() {
+    return Integer.bitCount(mask) + (other != null ? other.size() : 0);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return mask == 0 && (other == null || other.isEmpty());
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(values, null);
+    mask = 0;
+
+    // the additional map is kept for the next tick
+    if (other != null) {
+      other.clear();
+    }
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super Object> action) {
+    for (int bits = mask; bits != 0; bits &= bits - 1) {
+      int ordinal = Integer.numberOfTrailingZeros(bits);
+      action.accept(RESULT_ATTRIBUTES[ordinal].name, values[ordinal]);
+    }
+
+    if (other != null) {
+      other.forEach(action);
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet =
+          new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+              return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+              return AttributeMap.this.size();
+            }
+          };
+    }
+
+    return entrySet;
+  }
+
+  private Object removeAttribute(int ordinal) {
+    Object previous = values[ordinal];
+    values[ordinal] = null;
+    mask &= ~RESULT_ATTRIBUTES[ordinal].mask;
+    return previous;
+  }
+
+  private static ResultAttribute resultAttribute(Object key) {
+    return key instanceof String name ? ResultAttribute.parse(name).orElse(null) : null;
+  }
+
+  /** Iterator over the result attributes, followed by the other attributes. */
+  private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+    private int remaining = mask;
+    private int last = -1;
+    private Iterator<Map.Entry<String, Object>> others;
+
+    @Override
+    public boolean hasNext() {
+      if (remaining != 0) {
+        return true;
+      }
+
+      if (others == null) {
+        others = other != null ? other.entrySet().iterator() : Collections.emptyIterator();
+      }
+
+      return others.hasNext();
+    }
+
+    @Override
+    public Map.Entry<String, Object> next() {
+      if (remaining != 0) {
+        last = Integer.numberOfTrailingZeros(remaining);
+        remaining &= remaining - 1;
+        return new SimpleImmutableEntry<>(RESULT_ATTRIBUTES[last].name, values[last]);
+      }
+
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      last = -1;
+      return others.next();
+    }
+
+    @Override
+    public void remove() {
+      if (last >= 0) {
+        removeAttribute(last);
+        last = -1;
+      } else if (others != null) {
+        others.remove();
+      } else {
+        throw new IllegalStateException();
+      }
+    }
+  }
+}
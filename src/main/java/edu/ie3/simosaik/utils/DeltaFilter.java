@@ -0,0 +1,136 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import edu.ie3.simosaik.ResultAttribute;
+import java.util.*;
+
+/**
+ * Filter, that skips values of the mosaik output, which did not change by more than a configured
+ * tolerance since they were last sent to mosaik. The filter is applied while the output is encoded,
+ * so skipped values are never put into the output. The last sent values are kept in one primitive
+ * array, that is indexed by the {@link EntityIndex} of the entity and the ordinal of the attribute.
+ */
+public final class DeltaFilter {
+  private static final ResultAttribute[] RESULT_ATTRIBUTES = ResultAttribute.values();
+  private static final int ATTRIBUTES = RESULT_ATTRIBUTES.length;
+
+  // indexed by the ordinal of the result attribute, null for attributes that are always sent
+  private final Tolerance[] tolerances;
+
+  // indexed by entity * ATTRIBUTES + ordinal, NaN if no value was sent yet
+  private double[] lastSent = new double[0];
+
+  private DeltaFilter(Tolerance[] tolerances) {
+    this.tolerances = tolerances;
+  }
+
+  /**
+   * Method to parse the tolerances provided by mosaik. Each attribute is either mapped to a number,
+   * which is used as absolute tolerance, or to a map with either the key {@code absolute} or {@code
+   * relative}.
+   *
+   * @param config map: attribute to tolerance
+   * @return a new filter
+   */
+  public static DeltaFilter parse(Map<String, Object> config) {
+    Tolerance[] tolerances = new Tolerance[ATTRIBUTES];
+
+    config.forEach(
+        (attr, value) -> {
+          ResultAttribute attribute =
+              ResultAttribute.parse(attr)
+                  .filter(a -> a != ResultAttribute.CONGESTION)
+                  .orElseThrow(
+                      () ->
+                          new IllegalArgumentException(
+                              "No tolerance can be set for attribute: " + attr));
+
+          tolerances[attribute.ordinal()] = Tolerance.parse(attr, value);
+        });
+
+    return new DeltaFilter(tolerances);
+  }
+
+  /**
+   * Prepares the filter for an output of the entities of the given index. This needs to be called
+   * before the output is encoded, since the cache is not resized concurrently.
+   *
+   * @param index of all entities
+   */
+  void begin(EntityIndex index) {
+    int size = index.size() * ATTRIBUTES;
+
+    if (lastSent.length != size) {
+      lastSent = new double[size];
+      Arrays.fill(lastSent, Double.NaN);
+    }
+  }
+
+  /**
+   * Returns true, if the given value changed by more than its tolerance since it was last sent. In
+   * this case, the value is remembered as sent. Different entities can be filtered concurrently.
+   *
+   * @param entity index of the entity in the {@link EntityIndex}
+   * @param attribute of the value
+   * @param value to send
+   * @return true, if the value should be sent
+   */
+  boolean isChanged(int entity, ResultAttribute attribute, double value) {
+    Tolerance tolerance = tolerances[attribute.ordinal()];
+
+    if (tolerance == null) {
+      return true;
+    }
+
+    int slot = entity * ATTRIBUTES + attribute.ordinal();
+
+    if (tolerance.isExceeded(lastSent[slot], value)) {
+      lastSent[slot] = value;
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Tolerance of an attribute.
+   *
+   * @param value of the tolerance
+   * @param relative if true, the tolerance is relative to the last sent value
+   */
+  public record Tolerance(double value, boolean relative) {
+
+    /**
+     * Returns true, if the current value differs from the last sent value by more than this
+     * tolerance. If no value was sent yet, this method returns true.
+     */
+    public boolean isExceeded(double last, double current) {
+      if (Double.isNaN(last)) {
+        return true;
+      }
+
+      double allowed = relative ? value * Math.abs(last) : value;
+      return Math.abs(current - last) > allowed;
+    }
+
+    static Tolerance parse(String attr, Object value) {
+      if (value instanceof Number number) {
+        return new Tolerance(number.doubleValue(), false);
+      } else if (value instanceof Map<?, ?> map && map.size() == 1) {
+        if (map.get("absolute") instanceof Number number) {
+          return new Tolerance(number.doubleValue(), false);
+        } else if (map.get("relative") instanceof Number number) {
+          return new Tolerance(number.doubleValue(), true);
+        }
+      }
+
+      throw new IllegalArgumentException(
+          "Invalid tolerance for attribute '" + attr + "': " + value);
+    }
+  }
+}
@@ -0,0 +1,288 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import edu.ie3.datamodel.io.naming.timeseries.ColumnScheme;
+import edu.ie3.simona.api.mapping.DataType;
+import edu.ie3.simona.api.mapping.ExtEntityMapping;
+import edu.ie3.simosaik.SimonaEntity;
+import java.util.*;
+
+/**
+ * Frozen, dense index of all entities of an {@link ExtEntityMapping}. Each entity is assigned an
+ * index, under which its external id, uuid, data types and column scheme are stored side by side in
+ * arrays. The ids and uuids are resolved by open addressing tables, that only hold the indices of
+ * the entities.
+ *
+ * <p>The index is built once after all entities are created. Lookups of unknown entities and of
+ * ids, that are used for multiple uuids, are delegated to the underlying mapping. Therefore, all
+ * lookups return the same as the mapping. The index is immutable and can be shared between threads.
+ */
+public final class EntityIndex {
+  /** Index of entities, that are not part of this index. */
+  public static final int MISSING = -1;
+
+  private static final DataType[] DATA_TYPES = DataType.values();
+
+  private final ExtEntityMapping mapping;
+
+  private final String[] ids;
+  private final UUID[] uuids;
+  private final int[] dataTypes;
+  private final ColumnScheme[] schemes;
+  private final InputDecoder[] decoders;
+
+  // open addressing tables, that contain the index of an entity + 1, with 0 marking empty slots,
+  // ids, that are used for multiple uuids, are stored negated
+  private final int[] idSlots;
+  private final int[] uuidSlots;
+  private final int slotMask;
+
+  private EntityIndex(
+      ExtEntityMapping mapping,
+      String[] ids,
+      UUID[] uuids,
+      int[] dataTypes,
+      ColumnScheme[] schemes,
+      InputDecoder[] decoders) {
+    this.mapping = mapping;
+    this.ids = ids;
+    this.uuids = uuids;
+    this.dataTypes = dataTypes;
+    this.schemes = schemes;
+    this.decoders = decoders;
+
+    int capacity = Integer.highestOneBit(Math.max(ids.length, 1) * 2 - 1) << 1;
+    this.idSlots = new int[capacity];
+    this.uuidSlots = new int[capacity];
+    this.slotMask = capacity - 1;
+
+    for (int index = 0; index < ids.length; index++) {
+      insertUuid(index);
+      insertId(index);
+    }
+  }
+
+  /**
+   * Method to build an index of all entities of the given mapping.
+   *
+   * @param mapping with all entities
+   * @param primaryType map: primary entity id to column scheme
+   * @return a new index
+   */
+  public static EntityIndex build(ExtEntityMapping mapping, Map<String, ColumnScheme> primaryType) {
+    return build(mapping, primaryType, Collections.emptyMap());
+  }
+
+  /**
+   * Method to build an index of all entities of the given mapping. For each entity, an input
+   * decoder is selected based on its model type.
+   *
+   * @param mapping with all entities
+   * @param primaryType map: primary entity id to column scheme
+   * @param modelTypes map: entity id to the model type, that was used to create the entity
+   * @return a new index
+   */
+  public static EntityIndex build(
+      ExtEntityMapping mapping,
+      Map<String, ColumnScheme> primaryType,
+      Map<String, SimonaEntity> modelTypes) {
+    Map<UUID, Integer> rows = new LinkedHashMap<>();
+    List<String> ids = new ArrayList<>();
+    List<Integer> dataTypes = new ArrayList<>();
+
+    for (DataType dataType : DATA_TYPES) {
+      for (UUID uuid : mapping.getAssets(dataType)) {
+        Integer row = rows.get(uuid);
+
+        if (row == null) {
+          rows.put(uuid, ids.size());
+          ids.add(mapping.from(uuid));
+          dataTypes.add(1 << dataType.ordinal());
+        } else {
+          dataTypes.set(row, dataTypes.get(row) | 1 << dataType.ordinal());
+        }
+      }
+    }
+
+    int size = ids.size();
+    UUID[] uuidArray = rows.keySet().toArray(new UUID[0]);
+    int[] dataTypeArray = new int[size];
+    ColumnScheme[] schemes = new ColumnScheme[size];
+    InputDecoder[] decoders = new InputDecoder[size];
+
+    for (int i = 0; i < size; i++) {
+      dataTypeArray[i] = dataTypes.get(i);
+      schemes[i] = primaryType.get(ids.get(i));
+      decoders[i] = InputDecoder.of(modelTypes.get(ids.get(i)), schemes[i]);
+    }
+
+    return new EntityIndex(
+        mapping, ids.toArray(new String[0]), uuidArray, dataTypeArray, schemes, decoders);
+  }
+
+  /** Returns the underlying mapping. */
+  public ExtEntityMapping mapping() {
+    return mapping;
+  }
+
+  /** Returns the number of indexed entities. */
+  public int size() {
+    return ids.length;
+  }
+
+  /**
+   * Returns the index of the entity with the given external id.
+   *
+   * @param id external id
+   * @return the index or {@link #MISSING}
+   */
+  public int indexOf(String id) {
+    int entry = lookupId(id);
+    return entry > 0 ? entry - 1 : MISSING;
+  }
+
+  /**
+   * Returns the index of the entity with the given uuid.
+   *
+   * @param uuid of the entity
+   * @return the index or {@link #MISSING}
+   */
+  public int indexOf(UUID uuid) {
+    if (uuid == null) {
+      return MISSING;
+    }
+
+    for (int slot = hash(uuid) & slotMask; ; slot = (slot + 1) & slotMask) {
+      int entry = uuidSlots[slot];
+
+      if (entry == 0) {
+        return MISSING;
+      } else if (uuids[entry - 1].equals(uuid)) {
+        return entry - 1;
+      }
+    }
+  }
+
+  /** Returns the external id of the entity with the given index. */
+  public String id(int index) {
+    return ids[index];
+  }
+
+  /** Returns the uuid of the entity with the given index. */
+  public UUID uuid(int index) {
+    return uuids[index];
+  }
+
+  /** Returns true, if the entity with the given index is mapped for the given data type. */
+  public boolean hasType(int index, DataType dataType) {
+    return (dataTypes[index] & 1 << dataType.ordinal()) != 0;
+  }
+
+  /** Returns the input decoder of the entity with the given index. */
+  InputDecoder decoder(int index) {
+    return decoders[index];
+  }
+
+  /** Returns the column scheme of the entity with the given index or {@code null}. */
+  public ColumnScheme scheme(int index) {
+    return schemes[index];
+  }
+
+  /**
+   * Returns the uuid for the given external id. Equivalent to {@link
+   * ExtEntityMapping#from(String)}.
+   */
+  public UUID from(String id) {
+    int entry = lookupId(id);
+    return entry > 0 ? uuids[entry - 1] : mapping.from(id);
+  }
+
+  /**
+   * Returns the external id for the given uuid. Equivalent to {@link ExtEntityMapping#from(UUID)}.
+   */
+  public String from(UUID uuid) {
+    int index = indexOf(uuid);
+    return index >= 0 ? ids[index] : mapping.from(uuid);
+  }
+
+  /**
+   * Returns an option for the uuid of the given external id. Equivalent to {@link
+   * ExtEntityMapping#get(String)}.
+   */
+  public Optional<UUID> get(String id) {
+    int entry = lookupId(id);
+    return entry > 0 ? Optional.of(uuids[entry - 1]) : mapping.get(id);
+  }
+
+  /**
+   * Returns the column scheme of the given external id.
+   *
+   * @param id external id
+   * @return the scheme or {@code null}, if the entity is no primary entity
+   */
+  public ColumnScheme scheme(String id) {
+    int entry = lookupId(id);
+    return entry != 0 ? schemes[Math.abs(entry) - 1] : null;
+  }
+
+  // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
+
+  /** Returns the table entry of the given id or {@code 0}, if the id is unknown. */
+  private int lookupId(String id) {
+    if (id == null) {
+      return 0;
+    }
+
+    for (int slot = hash(id) & slotMask; ; slot = (slot + 1) & slotMask) {
+      int entry = idSlots[slot];
+
+      if (entry == 0 || ids[Math.abs(entry) - 1].equals(id)) {
+        return entry;
+      }
+    }
+  }
+
+  private void insertUuid(int index) {
+    int slot = hash(uuids[index]) & slotMask;
+
+    while (uuidSlots[slot] != 0) {
+      slot = (slot + 1) & slotMask;
+    }
+
+    uuidSlots[slot] = index + 1;
+  }
+
+  private void insertId(int index) {
+    String id = ids[index];
+
+    if (id == null) {
+      return;
+    }
+
+    int slot = hash(id) & slotMask;
+
+    while (idSlots[slot] != 0) {
+      int other = Math.abs(idSlots[slot]) - 1;
+
+      if (ids[other].equals(id)) {
+        // the id is used for multiple uuids, negative entries are resolved by the mapping
+        idSlots[slot] = -(other + 1);
+        return;
+      }
+
+      slot = (slot + 1) & slotMask;
+    }
+
+    idSlots[slot] = index + 1;
+  }
+
+  private static int hash(Object key) {
+    int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+}
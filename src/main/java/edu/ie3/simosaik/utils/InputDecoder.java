@@ -0,0 +1,65 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import edu.ie3.datamodel.io.naming.timeseries.ColumnScheme;
+import edu.ie3.simosaik.SimonaEntity;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Decoder for the mosaik inputs of one entity. The decoder of an entity is selected once, when the
+ * {@link EntityIndex} is built, based on the model type of the entity. Therefore, the decoder only
+ * reads the attributes of its model type and directly builds the matching SIMONA data.
+ */
+@FunctionalInterface
+interface InputDecoder {
+
+  /**
+   * Decodes the inputs of an entity.
+   *
+   * @param sink for the decoded data
+   * @param index used to resolve other entities
+   * @param receiver of the data
+   * @param attrToData map: attribute to sender data
+   */
+  void decode(InputSink sink, EntityIndex index, UUID receiver, Map<String, Object> attrToData);
+
+  /** Decoder for entities with an unknown model type, that handles all attributes of em models. */
+  InputDecoder FLEX = InputUtils::handleFlexData;
+
+  /**
+   * Returns the decoder for the given model type.
+   *
+   * @param model type of the entity or {@code null}, if unknown
+   * @param scheme of primary entities or {@code null}
+   * @return the matching decoder
+   */
+  static InputDecoder of(SimonaEntity model, ColumnScheme scheme) {
+    if (scheme != null) {
+      return switch (scheme) {
+        case ACTIVE_POWER -> InputUtils::decodeActivePower;
+        case APPARENT_POWER -> InputUtils::decodeApparentPower;
+        case ACTIVE_POWER_AND_HEAT_DEMAND -> InputUtils::decodeActivePowerAndHeat;
+        case APPARENT_POWER_AND_HEAT_DEMAND -> InputUtils::decodeApparentPowerAndHeat;
+        default ->
+            (sink, index, receiver, attrToData) ->
+                InputUtils.handlePrimaryData(sink, receiver, scheme, attrToData);
+      };
+    }
+
+    if (model == null) {
+      return FLEX;
+    }
+
+    return switch (model) {
+      case EM, EM_OPTIMIZER -> InputUtils::decodeEm;
+      case EM_COMMUNICATION -> InputUtils::decodeEmCommunication;
+      default -> FLEX;
+    };
+  }
+}
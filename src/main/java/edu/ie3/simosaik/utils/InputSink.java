@@ -0,0 +1,115 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import edu.ie3.datamodel.models.value.Value;
+import edu.ie3.simona.api.data.container.ExtInputContainer;
+import edu.ie3.simona.api.data.model.em.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/** Receiver of decoded mosaik input data. */
+interface InputSink {
+
+  void addPrimaryValue(UUID receiver, Value value);
+
+  void addRequest(FlexOptionRequest request);
+
+  void addFlexOptions(FlexOptions options);
+
+  void addSetPoint(SetPoint setPoint);
+
+  void addFlexComMessage(EmCommunicationMessage message);
+
+  /**
+   * Returns a sink, that directly adds all data to the given container.
+   *
+   * @param container to add the data to
+   * @return a new sink
+   */
+  static InputSink of(ExtInputContainer container) {
+    return new InputSink() {
+      @Override
+      public void addPrimaryValue(UUID receiver, Value value) {
+        container.addPrimaryValue(receiver, value);
+      }
+
+      @Override
+      public void addRequest(FlexOptionRequest request) {
+        container.addRequest(request);
+      }
+
+      @Override
+      public void addFlexOptions(FlexOptions options) {
+        container.addFlexOptions(options);
+      }
+
+      @Override
+      public void addSetPoint(SetPoint setPoint) {
+        container.addSetPoint(setPoint);
+      }
+
+      @Override
+      public void addFlexComMessage(EmCommunicationMessage message) {
+        container.addFlexComMessage(message);
+      }
+    };
+  }
+
+  /** Sink, that records all data in order, so it can be added to a container later on. */
+  final class Partial implements InputSink {
+    private final List<Object> items = new ArrayList<>();
+
+    @Override
+    public void addPrimaryValue(UUID receiver, Value value) {
+      items.add(new PrimaryValue(receiver, value));
+    }
+
+    @Override
+    public void addRequest(FlexOptionRequest request) {
+      items.add(request);
+    }
+
+    @Override
+    public void addFlexOptions(FlexOptions options) {
+      items.add(options);
+    }
+
+    @Override
+    public void addSetPoint(SetPoint setPoint) {
+      items.add(setPoint);
+    }
+
+    @Override
+    public void addFlexComMessage(EmCommunicationMessage message) {
+      items.add(message);
+    }
+
+    /**
+     * Adds all recorded data to the given sink in the order it was recorded.
+     *
+     * @param sink to add the data to
+     */
+    void drainTo(InputSink sink) {
+      for (Object item : items) {
+        switch (item) {
+          case PrimaryValue(UUID receiver, Value value) -> sink.addPrimaryValue(receiver, value);
+          case FlexOptionRequest request -> sink.addRequest(request);
+          case FlexOptions options -> sink.addFlexOptions(options);
+          case SetPoint setPoint -> sink.addSetPoint(setPoint);
+          case EmCommunicationMessage message -> sink.addFlexComMessage(message);
+          default -> throw new IllegalStateException("Unexpected input item: " + item);
+        }
+      }
+
+      items.clear();
+    }
+
+    private record PrimaryValue(UUID receiver, Value value) {}
+  }
+}
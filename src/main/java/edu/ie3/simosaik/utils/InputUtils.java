@@ -28,39 +28,168 @@ import tech.units.indriya.quantity.Quantities;
 public final class InputUtils {
   private static final Logger log = LoggerFactory.getLogger(InputUtils.class);
 
-  @SuppressWarnings("unchecked")
+  // quantities are immutable, so the zero of each primary unit can be shared
+  private static final ComparableQuantity<Power> ZERO_ACTIVE_POWER =
+      Quantities.getQuantity(0d, PSDM_ACTIVE_POWER);
+  private static final ComparableQuantity<Power> ZERO_REACTIVE_POWER =
+      Quantities.getQuantity(0d, PSDM_REACTIVE_POWER);
+
+  /** Default number of receivers, from which on the inputs are decoded in parallel. */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
   public static ExtInputContainer createInput(
       long tick,
       ExtEntityMapping mapping,
       Map<String, Object> inputData,
       Map<String, ColumnScheme> primaryType) {
+    return createInput(
+        tick, EntityIndex.build(mapping, primaryType), inputData, DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  /**
+   * Method to create an input container from the given mosaik inputs. If the number of receivers
+   * reaches the given threshold, the receivers are partitioned and decoded concurrently. The
+   * partial results are merged in the order of the partitions, so the resulting container is the
+   * same as for the sequential decoding.
+   *
+   * @param tick of the input
+   * @param index used to resolve the receivers and their column schemes
+   * @param inputData map: receiver to attribute data
+   * @param parallelThreshold number of receivers, from which on the inputs are decoded in parallel
+   * @return a new input container
+   */
+  public static ExtInputContainer createInput(
+      long tick, EntityIndex index, Map<String, Object> inputData, int parallelThreshold) {
     ExtInputContainer container = new ExtInputContainer(tick);
+    InputSink sink = InputSink.of(container);
 
-    // handling the input data
-    for (Map.Entry<String, Object> entry : inputData.entrySet()) {
-      String receiverId = entry.getKey();
-      UUID receiver = mapping.from(receiverId);
+    if (inputData.size() < parallelThreshold) {
+      // handling the input data
+      for (Map.Entry<String, Object> entry : inputData.entrySet()) {
+        handleInput(sink, index, entry);
+      }
+    } else {
+      List<Map.Entry<String, Object>> entries = new ArrayList<>(inputData.entrySet());
 
-      Map<String, Object> attrToData = (Map<String, Object>) entry.getValue();
+      List<InputSink.Partial> partials =
+          Partitions.process(
+              entries.size(),
+              (from, to) -> {
+                InputSink.Partial partial = new InputSink.Partial();
 
-      // handling primary input data
-      if (primaryType.containsKey(receiverId)) {
-        handlePrimaryData(container, receiver, primaryType.get(receiverId), attrToData);
-        log.debug("Primary data: {}", container.primaryDataString());
-      } else {
-        // handling of flex/em data
-        handleFlexData(container, mapping, receiver, attrToData);
-      }
+                for (int i = from; i < to; i++) {
+                  handleInput(partial, index, entries.get(i));
+                }
+
+                return partial;
+              });
+
+      partials.forEach(partial -> partial.drainTo(sink));
     }
 
     return container;
   }
 
-  private static void handlePrimaryData(
-      ExtInputContainer container,
-      UUID receiver,
-      ColumnScheme primaryType,
-      Map<String, Object> attrToData) {
+  @SuppressWarnings("unchecked")
+  private static void handleInput(
+      InputSink sink, EntityIndex index, Map.Entry<String, Object> entry) {
+    String receiverId = entry.getKey();
+    int receiverIndex = index.indexOf(receiverId);
+    Map<String, Object> attrToData = (Map<String, Object>) entry.getValue();
+
+    if (receiverIndex != EntityIndex.MISSING) {
+      // the decoder of the entity already knows its model type
+      index.decoder(receiverIndex).decode(sink, index, index.uuid(receiverIndex), attrToData);
+      return;
+    }
+
+    UUID receiver = index.from(receiverId);
+    ColumnScheme scheme = index.scheme(receiverId);
+
+    // handling primary input data
+
+    if (scheme != null) {
+      handlePrimaryData(sink, receiver, scheme, attrToData);
+    } else {
+      // handling of flex/em data
+      handleFlexData(sink, index, receiver, attrToData);
+    }
+  }
+
+  static void decodeActivePower(
+      InputSink sink, EntityIndex index, UUID receiver, Map<String, Object> attrToData) {
+    sink.addPrimaryValue(receiver, new PValue(activePower(attrToData, ACTIVE_POWER)));
+  }
+
+  static void decodeApparentPower(
+      InputSink sink, EntityIndex index, UUID receiver, Map<String, Object> attrToData) {
+    sink.addPrimaryValue(
+        receiver, new SValue(activePower(attrToData, ACTIVE_POWER), reactivePower(attrToData)));
+  }
+
+  static void decodeActivePowerAndHeat(
+      InputSink sink, EntityIndex index, UUID receiver, Map<String, Object> attrToData) {
+    sink.addPrimaryValue(
+        receiver,
+        new HeatAndPValue(
+            activePower(attrToData, ACTIVE_POWER), activePower(attrToData, THERMAL_POWER)));
+  }
+
+  static void decodeApparentPowerAndHeat(
+      InputSink sink, EntityIndex index, UUID receiver, Map<String, Object> attrToData) {
+    sink.addPrimaryValue(
+        receiver,
+        new HeatAndSValue(
+            activePower(attrToData, ACTIVE_POWER),
+            reactivePower(attrToData),
+            activePower(attrToData, THERMAL_POWER)));
+  }
+
+  /** Decodes the inputs of em entities, that only read the attributes of their model type. */
+  static void decodeEm(
+      InputSink sink, EntityIndex index, UUID receiver, Map<String, Object> attrToData) {
+    Object request = singleValue(attrToData.get(FLEX_REQUEST));
+
+    if (request != null) {
+      sink.addRequest(new FlexOptionRequest(receiver, extract(request, "disaggregated", false)));
+    }
+
+    Object options = singleValue(attrToData.get(FLEX_OPTIONS));
+
+    if (options != null) {
+      sink.addFlexOptions(parseFlexOptions(index, receiver, options));
+    }
+
+    Object setPoint = singleValue(attrToData.get(FLEX_SET_POINT));
+
+    if (setPoint != null) {
+      sink.addSetPoint(parseEmSetPoints(index, receiver, setPoint));
+    }
+  }
+
+  /** Decodes the inputs of em entities, that also exchange em communication messages. */
+  static void decodeEmCommunication(
+      InputSink sink, EntityIndex index, UUID receiver, Map<String, Object> attrToData) {
+    decodeEm(sink, index, receiver, attrToData);
+
+    Object messages = singleValue(attrToData.get(FLEX_COM));
+
+    if (messages != null) {
+      parseEmComMessage(index, receiver, messages).forEach(sink::addFlexComMessage);
+    }
+  }
+
+  /** Returns the value of the only sender or {@code null}. */
+  private static Object singleValue(Object senderToValues) {
+    if (senderToValues instanceof Map<?, ?> map && map.size() == 1) {
+      return map.values().iterator().next();
+    }
+
+    return null;
+  }
+
+  static void handlePrimaryData(
+      InputSink sink, UUID receiver, ColumnScheme primaryType, Map<String, Object> attrToData) {
     Value value =
         switch (primaryType) {
           case ColumnScheme.ACTIVE_POWER -> new PValue(extractQuantity(attrToData, ACTIVE_POWER));
@@ -84,16 +213,14 @@ public final class InputUtils {
         };
 
     if (value != null) {
-      container.addPrimaryValue(receiver, value);
+      sink.addPrimaryValue(receiver, value);
+      log.debug("Primary data for {}: {}", receiver, value);
     }
   }
 
   @SuppressWarnings("unchecked")
-  private static void handleFlexData(
-      ExtInputContainer container,
-      ExtEntityMapping mapping,
-      UUID receiver,
-      Map<String, Object> attrToData) {
+  static void handleFlexData(
+      InputSink sink, EntityIndex index, UUID receiver, Map<String, Object> attrToData) {
 
     for (Map.Entry<String, Object> e : attrToData.entrySet()) {
       String attr = e.getKey();
@@ -105,13 +232,13 @@ public final class InputUtils {
         Object value = senderToValues.values().iterator().next();
 
         if (Objects.equals(attr, FLEX_COM)) {
-          parseEmComMessage(mapping, receiver, value).forEach(container::addFlexComMessage);
+          parseEmComMessage(index, receiver, value).forEach(sink::addFlexComMessage);
         } else {
-          EmMessageContent emData = handleFlexData(mapping, receiver, attr, value);
+          EmMessageContent emData = handleFlexData(index, receiver, attr, value);
           switch (emData) {
-            case FlexOptionRequest r -> container.addRequest(r);
-            case FlexOptions o -> container.addFlexOptions(o);
-            case SetPoint s -> container.addSetPoint(s);
+            case FlexOptionRequest r -> sink.addRequest(r);
+            case FlexOptions o -> sink.addFlexOptions(o);
+            case SetPoint s -> sink.addSetPoint(s);
             case null, default ->
                 log.debug("Could not process data for attribute '{}': {}", attr, senderToValues);
           }
@@ -121,7 +248,7 @@ public final class InputUtils {
   }
 
   private static EmMessageContent handleFlexData(
-      ExtEntityMapping mapping, UUID receiver, String attr, Object value) {
+      EntityIndex index, UUID receiver, String attr, Object value) {
     return switch (attr) {
       case FLEX_REQUEST -> {
         if (value != null) {
@@ -130,8 +257,8 @@ public final class InputUtils {
           yield null;
         }
       }
-      case FLEX_OPTIONS -> parseFlexOptions(mapping, receiver, value);
-      case FLEX_SET_POINT -> parseEmSetPoints(mapping, receiver, value);
+      case FLEX_OPTIONS -> parseFlexOptions(index, receiver, value);
+      case FLEX_SET_POINT -> value != null ? parseEmSetPoints(index, receiver, value) : null;
       default -> {
         log.debug("Unexpected attribute value: {}", attr);
         yield null;
@@ -139,14 +266,13 @@ public final class InputUtils {
     };
   }
 
-  private static FlexOptions parseFlexOptions(
-      ExtEntityMapping mapping, UUID receiver, Object value) {
-    UUID sender = mapping.get(extract(value, "sender", "")).orElse(receiver);
-    return parseFlexOptions(mapping, receiver, sender, value);
+  private static FlexOptions parseFlexOptions(EntityIndex index, UUID receiver, Object value) {
+    UUID sender = index.get(extract(value, "sender", "")).orElse(receiver);
+    return parseFlexOptions(index, receiver, sender, value);
   }
 
   private static FlexOptions parseFlexOptions(
-      ExtEntityMapping mapping, UUID receiver, UUID sender, Object value) {
+      EntityIndex index, UUID receiver, UUID sender, Object value) {
     Map<UUID, FlexOptions> disaggregated = new HashMap<>();
 
     Map<String, Object> disaggregatedAttrToData =
@@ -154,9 +280,9 @@ public final class InputUtils {
 
     disaggregatedAttrToData.forEach(
         (dSenderId, dValue) -> {
-          UUID dSender = mapping.from(dSenderId);
-          UUID dReceiver = mapping.get(extract(value, "receiver", "")).orElse(receiver);
-          disaggregated.put(dSender, parseFlexOptions(mapping, dReceiver, dSender, dValue));
+          UUID dSender = index.from(dSenderId);
+          UUID dReceiver = index.get(extract(value, "receiver", "")).orElse(receiver);
+          disaggregated.put(dSender, parseFlexOptions(index, dReceiver, dSender, dValue));
         });
 
     if (!disaggregated.isEmpty()) {
@@ -208,12 +334,7 @@ public final class InputUtils {
     }
   }
 
-  private static EmMessageContent parseEmSetPoints(
-      ExtEntityMapping mapping, UUID receiver, Object value) {
-    if (value == null) {
-      return null;
-    }
-
+  private static SetPoint parseEmSetPoints(EntityIndex index, UUID receiver, Object value) {
     BiFunction<ComparableQuantity<Power>, ComparableQuantity<Power>, PValue> builder =
         (active, reactive) -> {
           if (reactive != null) {
@@ -231,7 +352,7 @@ public final class InputUtils {
 
     disaggregated.forEach(
         (id, data) -> {
-          UUID model = mapping.from(id);
+          UUID model = index.from(id);
 
           ComparableQuantity<Power> active = extractQuantity(data, ACTIVE_POWER);
           ComparableQuantity<Power> reactive = extractQuantity(data, REACTIVE_POWER);
@@ -258,32 +379,32 @@ public final class InputUtils {
   }
 
   private static List<EmCommunicationMessage> parseEmComMessage(
-      ExtEntityMapping mapping, UUID receiver, Object value) {
+      EntityIndex index, UUID receiver, Object value) {
     List<EmCommunicationMessage> messages = new ArrayList<>();
 
     if (value instanceof List<?> list) {
       for (Object item : list) {
-        messages.addAll(parseEmComMessage(mapping, receiver, item));
+        messages.addAll(parseEmComMessage(index, receiver, item));
       }
 
     } else if (value instanceof Map<?, ?> map) {
-      messages.add(parseEmComMessage(mapping, receiver, map));
+      messages.add(parseEmComMessage(index, receiver, map));
     }
 
     return messages;
   }
 
   private static EmCommunicationMessage parseEmComMessage(
-      ExtEntityMapping mapping, UUID receiver, Map<?, ?> map) {
+      EntityIndex index, UUID receiver, Map<?, ?> map) {
     String senderId = (String) map.get("sender");
-    UUID sender = mapping.from(senderId);
+    UUID sender = index.from(senderId);
 
     UUID msgId = null;
     EmMessageContent content = null;
 
     try {
       msgId = UUID.fromString((String) map.get("msg_id"));
-      content = handleFlexData(mapping, receiver, (String) map.get("type"), map.get("content"));
+      content = handleFlexData(index, receiver, (String) map.get("type"), map.get("content"));
     } catch (Exception ignored) {
     }
 
@@ -292,14 +413,15 @@ public final class InputUtils {
 
   // -=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=
 
-  @SuppressWarnings("unchecked")
   private static boolean containsAll(Object obj, String... fields) {
     if (obj instanceof Map<?, ?> map) {
-      try {
-        return ((Map<String, ?>) map).keySet().containsAll(List.of(fields));
-      } catch (Exception e) {
-        return false;
+      for (String field : fields) {
+        if (!map.containsKey(field)) {
+          return false;
+        }
       }
+
+      return true;
     }
     return false;
   }
@@ -336,6 +458,53 @@ public final class InputUtils {
     return OptionalLong.empty();
   }
 
+  /**
+   * Reads an active or thermal power of a primary entity with the shared psdm unit. A missing power
+   * is returned as the shared zero.
+   */
+  private static ComparableQuantity<Power> activePower(
+      Map<String, Object> attrToData, String field) {
+    Number value = mosaikValue(attrToData.get(field));
+    return value != null ? Quantities.getQuantity(value, PSDM_ACTIVE_POWER) : ZERO_ACTIVE_POWER;
+  }
+
+  /**
+   * Reads the reactive power of a primary entity with the shared psdm unit. A missing power is
+   * returned as the shared zero.
+   */
+  private static ComparableQuantity<Power> reactivePower(Map<String, Object> attrToData) {
+    Number value = mosaikValue(attrToData.get(REACTIVE_POWER));
+    return value != null ? Quantities.getQuantity(value, PSDM_REACTIVE_POWER) : ZERO_REACTIVE_POWER;
+  }
+
+  /**
+   * Returns the value of a mosaik attribute, that is either a single value or a map: sender to
+   * value. The value of a single sender is returned as is, so the boxed value received from mosaik
+   * is reused by the quantity. The values of multiple senders are summed up. Returns {@code null},
+   * if no value is present.
+   */
+  private static Number mosaikValue(Object mosaikValue) {
+    if (mosaikValue instanceof Double d) {
+      return d;
+    } else if (mosaikValue instanceof Map<?, ?> nested && !nested.isEmpty()) {
+      if (nested.size() == 1) {
+        return nested.values().iterator().next() instanceof Double d ? d : null;
+      }
+
+      double value = 0d;
+
+      for (Object o : nested.values()) {
+        if (o instanceof Double d) {
+          value += d;
+        }
+      }
+
+      return value;
+    }
+
+    return null;
+  }
+
   private static <Q extends Quantity<Q>> ComparableQuantity<Q> extractQuantity(
       Object obj, String field) {
     if (obj == null) {
@@ -350,10 +519,8 @@ public final class InputUtils {
         value = d;
       } else if (mosaikValue instanceof Map<?, ?> nested) {
         for (Object o : nested.values()) {
-          try {
-            double d = (double) o;
+          if (o instanceof Double d) {
             value += d;
-          } catch (Exception ignored) {
           }
         }
       }
@@ -0,0 +1,88 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import edu.ie3.datamodel.models.result.ResultEntity;
+import java.util.*;
+
+/**
+ * Set of result assets, that mosaik is subscribed to. The subscription is derived from the {@link
+ * OutputPlan} of the last data request. It is updated by the simulator, that receives the data
+ * requests, while the external simulation only gets the {@link ResultSubscription} view.
+ *
+ * <p>Until the first plan is known, all results are subscribed. Entities, that are added to the
+ * data request of mosaik, receive results starting with the tick after the request changed, since
+ * the results of a tick are requested before mosaik asks for data.
+ */
+public final class MutableResultSubscription implements ResultSubscription {
+
+  // null if all results are subscribed
+  private volatile Set<UUID> uuids;
+
+  /**
+   * Updates this subscription with the result assets of the given plan.
+   *
+   * @param plan of the current data request
+   */
+  public void update(OutputPlan plan) {
+    uuids = plan.resultUuids();
+  }
+
+  @Override
+  public boolean isAll() {
+    return uuids == null;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    Set<UUID> subscribed = uuids;
+    return subscribed != null && subscribed.isEmpty();
+  }
+
+  @Override
+  public boolean contains(UUID uuid) {
+    Set<UUID> subscribed = uuids;
+    return subscribed == null || subscribed.contains(uuid);
+  }
+
+  @Override
+  public Map<UUID, List<ResultEntity>> filter(Map<UUID, List<ResultEntity>> results) {
+    Set<UUID> subscribed = uuids;
+
+    if (subscribed == null) {
+      return results;
+    }
+
+    Map<UUID, List<ResultEntity>> filtered = HashMap.newHashMap(subscribed.size());
+
+    // iterate over the smaller side
+    if (subscribed.size() < results.size()) {
+      for (UUID uuid : subscribed) {
+        List<ResultEntity> entities = results.get(uuid);
+
+        if (entities != null) {
+          filtered.put(uuid, entities);
+        }
+      }
+    } else {
+      results.forEach(
+          (uuid, entities) -> {
+            if (subscribed.contains(uuid)) {
+              filtered.put(uuid, entities);
+            }
+          });
+    }
+
+    return filtered;
+  }
+
+  @Override
+  public String toString() {
+    Set<UUID> subscribed = uuids;
+    return "ResultSubscription{" + (subscribed == null ? "all" : subscribed.size()) + "}";
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import static edu.ie3.simosaik.SimosaikUnits.SIMONA_NEXT_TICK;
+
+import edu.ie3.simosaik.ResultAttribute;
+import java.util.*;
+
+/**
+ * Precompiled output request of mosaik. Mosaik sends the same request on every tick, therefore the
+ * request is compiled once into resolved uuids and attribute masks and reused as long as the shape
+ * of the request does not change.
+ *
+ * <p>The shape is compared positionally in the iteration order of the request, which is the order
+ * of the request message, since mosaik sends its requests in a stable order. A reordered request is
+ * not matched and compiled again, which is correct, but slower.
+ */
+public final class OutputPlan {
+
+  private final String[] ids;
+  private final String[][] attributes;
+  private final UUID[] uuids;
+  private final int[] entities;
+  private final int[] masks;
+  private final boolean[] nextTick;
+  private final Set<UUID> resultUuids;
+
+  private OutputPlan(
+      String[] ids,
+      String[][] attributes,
+      UUID[] uuids,
+      int[] entities,
+      int[] masks,
+      boolean[] nextTick) {
+    this.ids = ids;
+    this.attributes = attributes;
+    this.uuids = uuids;
+    this.entities = entities;
+    this.masks = masks;
+    this.nextTick = nextTick;
+
+    Set<UUID> requested = new HashSet<>();
+
+    for (int i = 0; i < uuids.length; i++) {
+      if (uuids[i] != null && masks[i] != 0) {
+        requested.add(uuids[i]);
+      }
+    }
+
+    this.resultUuids = Collections.unmodifiableSet(requested);
+  }
+
+  /**
+   * Method to compile the request of mosaik.
+   *
+   * @param requestedAttributes map: mosaik entity to requested attributes
+   * @param index used to resolve the uuids of the entities
+   * @return a new plan
+   */
+  public static OutputPlan compile(
+      Map<String, List<String>> requestedAttributes, EntityIndex index) {
+    int size = requestedAttributes.size();
+
+    String[] ids = new String[size];
+    String[][] attributes = new String[size][];
+    UUID[] uuids = new UUID[size];
+    int[] entities = new int[size];
+    int[] masks = new int[size];
+    boolean[] nextTick = new boolean[size];
+
+    int i = 0;
+    for (Map.Entry<String, List<String>> entry : requestedAttributes.entrySet()) {
+      String externalEntity = entry.getKey();
+      List<String> attrs = entry.getValue();
+
+      ids[i] = externalEntity;
+      attributes[i] = attrs.toArray(String[]::new);
+      uuids[i] = index.from(externalEntity);
+      entities[i] = index.indexOf(uuids[i]);
+      masks[i] = ResultAttribute.toMask(attrs);
+      nextTick[i] = attrs.contains(SIMONA_NEXT_TICK);
+      i++;
+    }
+
+    return new OutputPlan(ids, attributes, uuids, entities, masks, nextTick);
+  }
+
+  /**
+   * Returns true, if the given request has the same shape as the request this plan was compiled
+   * from. The request is walked once and compared entry by entry with the compiled request, which
+   * avoids hashing the entities of the request on every tick.
+   *
+   * @param requestedAttributes map: mosaik entity to requested attributes
+   * @return true, if this plan can be reused
+   */
+  public boolean matches(Map<String, List<String>> requestedAttributes) {
+    if (requestedAttributes.size() != ids.length) {
+      return false;
+    }
+
+    int i = 0;
+    for (Map.Entry<String, List<String>> entry : requestedAttributes.entrySet()) {
+      if (!ids[i].equals(entry.getKey()) || !matches(attributes[i], entry.getValue())) {
+        return false;
+      }
+      i++;
+    }
+
+    return true;
+  }
+
+  private static boolean matches(String[] compiled, List<String> attrs) {
+    if (compiled.length != attrs.size()) {
+      return false;
+    }
+
+    for (int j = 0; j < compiled.length; j++) {
+      if (!compiled[j].equals(attrs.get(j))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /** Returns the number of requested entities. */
+  public int size() {
+    return ids.length;
+  }
+
+  /** Returns the mosaik id of the entity with the given index. */
+  public String id(int index) {
+    return ids[index];
+  }
+
+  /** Returns the uuid of the entity with the given index. */
+  public UUID uuid(int index) {
+    return uuids[index];
+  }
+
+  /** Returns the index of the entity in the {@link EntityIndex} or {@link EntityIndex#MISSING}. */
+  public int entity(int index) {
+    return entities[index];
+  }
+
+  /** Returns the mask of the requested {@link ResultAttribute}s of the entity. */
+  public int mask(int index) {
+    return masks[index];
+  }
+
+  /** Returns the uuids of all entities, that requested at least one result attribute. */
+  public Set<UUID> resultUuids() {
+    return resultUuids;
+  }
+
+  /** Returns true, if the entity requested the next tick information. */
+  public boolean requestsNextTick(int index) {
+    return nextTick[index];
+  }
+}
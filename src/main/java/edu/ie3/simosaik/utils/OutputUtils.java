@@ -12,13 +12,6 @@ import static tech.units.indriya.unit.Units.AMPERE;
 import static tech.units.indriya.unit.Units.RADIAN;
 
 import edu.ie3.datamodel.models.result.CongestionResult;
-import edu.ie3.datamodel.models.result.NodeResult;
-import edu.ie3.datamodel.models.result.ResultEntity;
-import edu.ie3.datamodel.models.result.connector.ConnectorResult;
-import edu.ie3.datamodel.models.result.connector.LineResult;
-import edu.ie3.datamodel.models.result.system.ElectricalEnergyStorageResult;
-import edu.ie3.datamodel.models.result.system.SystemParticipantResult;
-import edu.ie3.datamodel.models.result.system.SystemParticipantWithHeatResult;
 import edu.ie3.datamodel.models.value.HeatAndPValue;
 import edu.ie3.datamodel.models.value.HeatAndSValue;
 import edu.ie3.datamodel.models.value.PValue;
@@ -26,6 +19,7 @@ import edu.ie3.datamodel.models.value.SValue;
 import edu.ie3.simona.api.data.container.ExtOutputContainer;
 import edu.ie3.simona.api.data.model.em.*;
 import edu.ie3.simona.api.mapping.ExtEntityMapping;
+import edu.ie3.simosaik.ResultAttribute;
 import java.util.*;
 import java.util.stream.Collectors;
 import javax.measure.quantity.*;
@@ -36,6 +30,21 @@ import tech.units.indriya.ComparableQuantity;
 public final class OutputUtils {
   private static final Logger log = LoggerFactory.getLogger(OutputUtils.class);
 
+  private static final ResultAttribute[] RESULT_ATTRIBUTES = ResultAttribute.values();
+
+  /** Default number of requested entities, from which on the output is encoded in parallel. */
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+  // converters into the mosaik units
+  private static final ScalarConverter<Power> TO_MEGAWATT = new ScalarConverter<>(MEGAWATT);
+  private static final ScalarConverter<Power> TO_MEGAVAR = new ScalarConverter<>(MEGAVAR);
+  private static final ScalarConverter<Energy> TO_MEGAWATTHOUR =
+      new ScalarConverter<>(MEGAWATTHOUR);
+  private static final ScalarConverter<Dimensionless> TO_PU = new ScalarConverter<>(PU);
+  private static final ScalarConverter<ElectricCurrent> TO_AMPERE = new ScalarConverter<>(AMPERE);
+  private static final ScalarConverter<Angle> TO_RADIAN = new ScalarConverter<>(RADIAN);
+  private static final ScalarConverter<Dimensionless> TO_PERCENT = new ScalarConverter<>(PERCENT);
+
   public static Map<String, Object> onlyTickInformation(
       Map<String, List<String>> requestedAttributes, long nextTick) {
     Map<String, Object> output = new HashMap<>();
@@ -52,170 +61,287 @@ public final class OutputUtils {
     return output;
   }
 
+  public static Map<String, Object> onlyTickInformation(OutputPlan plan, long nextTick) {
+    Map<String, Object> output = new HashMap<>();
+
+    for (int i = 0; i < plan.size(); i++) {
+      if (plan.requestsNextTick(i)) {
+        output.put(plan.id(i), Map.of(SIMONA_NEXT_TICK, nextTick));
+      }
+    }
+
+    return output;
+  }
+
   public static Map<String, Object> createOutput(
       ExtOutputContainer container,
       Map<String, List<String>> requestedAttributes,
       long tick,
       ExtEntityMapping mapping) {
     log.debug("Requested attributes: {}", requestedAttributes);
-    log.debug("Result container: {}", container.getResults());
+    EntityIndex index = EntityIndex.build(mapping, Collections.emptyMap());
+    return createOutput(container, OutputPlan.compile(requestedAttributes, index), tick, index);
+  }
 
-    Map<String, Object> output = new HashMap<>();
+  public static Map<String, Object> createOutput(
+      ExtOutputContainer container, OutputPlan plan, long tick, EntityIndex index) {
+    return createOutput(container, plan, tick, index, DEFAULT_PARALLEL_THRESHOLD);
+  }
 
-    for (Map.Entry<String, List<String>> entry : requestedAttributes.entrySet()) {
-      String externalEntity = entry.getKey();
-      List<String> attrs = entry.getValue();
+  public static Map<String, Object> createOutput(
+      ExtOutputContainer container,
+      OutputPlan plan,
+      long tick,
+      EntityIndex index,
+      int parallelThreshold) {
+    ResultBuffer buffer = ResultBuffer.of(index, container.getResults());
+    return createOutput(container, buffer, plan, tick, parallelThreshold);
+  }
 
-      UUID asset = mapping.from(externalEntity);
+  /**
+   * Method to create the mosaik output for the given plan. The results are read from the given
+   * buffer, that needs to be filled with the results of the container. If the number of requested
+   * entities reaches the given threshold, the entities are partitioned and encoded concurrently.
+   *
+   * @param container with the em data of SIMONA
+   * @param buffer with the results of SIMONA
+   * @param plan compiled request of mosaik
+   * @param tick of the output
+   * @param parallelThreshold number of requested entities, from which on the output is encoded in
+   *     parallel
+   * @return map: mosaik entity to attribute data
+   */
+  public static Map<String, Object> createOutput(
+      ExtOutputContainer container,
+      ResultBuffer buffer,
+      OutputPlan plan,
+      long tick,
+      int parallelThreshold) {
+    return createOutput(container, buffer, plan, tick, parallelThreshold, null);
+  }
 
-      List<ResultEntity> results = container.getResult(asset);
-      List<EmData> emData = container.getEmData(asset);
+  /**
+   * Method to create the mosaik output for the given plan. If an arena is given, the output map and
+   * the attribute maps of the last tick are reused. Such an output is only valid until the next
+   * output is created with the same arena.
+   *
+   * @param container with the em data of SIMONA
+   * @param buffer with the results of SIMONA
+   * @param plan compiled request of mosaik
+   * @param tick of the output
+   * @param parallelThreshold number of requested entities, from which on the output is encoded in
+   *     parallel
+   * @param arena to reuse the maps of, or {@code null} to create new maps
+   * @return map: mosaik entity to attribute data
+   */
+  public static Map<String, Object> createOutput(
+      ExtOutputContainer container,
+      ResultBuffer buffer,
+      OutputPlan plan,
+      long tick,
+      int parallelThreshold,
+      TickArena arena) {
+    return createOutput(container, buffer, plan, tick, parallelThreshold, arena, null);
+  }
 
-      log.debug("{} ({}): {}, {}", externalEntity, asset, results, emData);
+  /**
+   * Method to create the mosaik output for the given plan. If an arena is given, the output map and
+   * the attribute maps of the last tick are reused. Such an output is only valid until the next
+   * output is created with the same arena. If a filter is given, results, that did not change since
+   * they were last sent, are skipped while encoding.
+   *
+   * @param container with the em data of SIMONA
+   * @param buffer with the results of SIMONA
+   * @param plan compiled request of mosaik
+   * @param tick of the output
+   * @param parallelThreshold number of requested entities, from which on the output is encoded in
+   *     parallel
+   * @param arena to reuse the maps of, or {@code null} to create new maps
+   * @param filter for unchanged results, or {@code null} to send all results
+   * @return map: mosaik entity to attribute data
+   */
+  public static Map<String, Object> createOutput(
+      ExtOutputContainer container,
+      ResultBuffer buffer,
+      OutputPlan plan,
+      long tick,
+      int parallelThreshold,
+      TickArena arena,
+      DeltaFilter filter) {
+    log.debug("Result container: {}", container.getResults());
 
-      if (!results.isEmpty() || !emData.isEmpty()) {
-        Map<String, Object> data = new HashMap<>();
+    if (filter != null) {
+      filter.begin(buffer.index());
+    }
 
-        // handle results
-        for (ResultEntity result : results) {
-          data.putAll(handleResult(result, attrs, tick, mapping));
-        }
-
-        // handle em data
-        emData.stream()
-            .map(d -> handleEmData(d, mapping))
-            .collect(Collectors.groupingBy(ProcessedEmData::attr))
-            .forEach(
-                (attr, processedEmDataList) -> {
-                  if (attr.equals(FLEX_COM)) {
-                    data.put(
-                        attr, processedEmDataList.stream().map(ProcessedEmData::data).toList());
-                  } else {
-                    data.put(attr, processedEmDataList.getFirst().data);
-                  }
-                });
-
-        if (!data.isEmpty()) {
-          output.put(externalEntity, data);
-        }
+    if (arena != null) {
+      arena.begin(plan);
 
+      if (plan.size() < parallelThreshold) {
+        encode(container, buffer, plan, 0, plan.size(), tick, filter, arena, null);
       } else {
-        log.debug("No results or em data found for asset {}.", externalEntity);
+        // the partitions only write into the attribute maps of their own entities
+        Partitions.process(
+            plan.size(),
+            (from, to) -> {
+              encode(container, buffer, plan, from, to, tick, filter, arena, null);
+              return to - from;
+            });
       }
+
+      return arena.collect();
+    }
+
+    if (plan.size() < parallelThreshold) {
+      Map<String, Object> output = new HashMap<>();
+      encode(container, buffer, plan, 0, plan.size(), tick, filter, null, output);
+      return output;
     }
 
+    List<Map<String, Object>> partials =
+        Partitions.process(
+            plan.size(),
+            (from, to) -> {
+              Map<String, Object> partial = new HashMap<>();
+              encode(container, buffer, plan, from, to, tick, filter, null, partial);
+              return partial;
+            });
+
+    Map<String, Object> output = HashMap.newHashMap(plan.size());
+    partials.forEach(output::putAll);
+
     return output;
   }
 
-  private static Map<String, Object> handleResult(
-      ResultEntity result, List<String> attrs, long tick, ExtEntityMapping mapping) {
-    return switch (result) {
-      case SystemParticipantResult participant -> handleParticipantResult(participant, attrs);
-      case NodeResult n -> {
-        Map<String, Object> data = new HashMap<>();
+  /**
+   * Encodes the planned entities in the range {@code [from, to)} into the given output. If an arena
+   * is given, the entities are only encoded into the attribute maps of the arena. Results, that are
+   * skipped by the filter, are not encoded at all.
+   */
+  private static void encode(
+      ExtOutputContainer container,
+      ResultBuffer buffer,
+      OutputPlan plan,
+      int from,
+      int to,
+      long tick,
+      DeltaFilter filter,
+      TickArena arena,
+      Map<String, Object> output) {
+    EntityIndex index = buffer.index();
 
-        if (attrs.contains(VOLTAGE_MAG)) {
-          data.put(VOLTAGE_MAG, toPu(n.getvMag()));
-        }
+    for (int i = from; i < to; i++) {
+      String externalEntity = plan.id(i);
+      UUID asset = plan.uuid(i);
+      int entity = plan.entity(i);
 
-        if (attrs.contains(VOLTAGE_ANG)) {
-          data.put(VOLTAGE_ANG, toRadians(n.getvAng()));
-        }
+      int present = entity != EntityIndex.MISSING ? buffer.presentMask(entity) : 0;
+      List<EmData> emData = container.getEmData(asset);
 
-        yield data;
+      // guarded, since the arguments would be boxed for every entity
+      if (log.isDebugEnabled()) {
+        log.debug("{} ({}): {}, {}", externalEntity, asset, present, emData);
       }
-      case ConnectorResult connector -> handleConnectorResult(connector, attrs);
 
-      case CongestionResult congestion -> {
-        Map<String, Object> data = new HashMap<>();
+      // the attribute map of the last tick is cleared, even if the entity has no data
+      AttributeMap data = arena != null ? arena.data(i) : null;
 
-        if (attrs.contains(CONGESTION)) {
-          data.put("model", mapping.from(congestion.getInputModel()));
-          data.put("tick", tick);
-          data.put("subgrid", congestion.getSubgrid());
-          data.put("type", congestion.getType().type);
-          data.put("value", toPercent(congestion.getValue()));
-          data.put("min", toPercent(congestion.getMin()));
-          data.put("max", toPercent(congestion.getMax()));
+      if (present != 0 || !emData.isEmpty()) {
+        if (data == null) {
+          data = new AttributeMap();
         }
 
-        yield Map.of(CONGESTION, data);
-      }
-
-      case null, default -> {
-        if (result != null) {
-          log.warn("Result of type '{}' is currently not supported.", result.getClass());
+        // handle results
+        if (present != 0) {
+          handleResults(buffer, entity, plan.mask(i), tick, index, filter, data);
         }
 
-        yield Collections.emptyMap();
-      }
-    };
-  }
-
-  private static Map<String, Object> handleConnectorResult(
-      ConnectorResult result, List<String> attrs) {
-    if (result instanceof LineResult line) {
-      Map<String, Object> data = new HashMap<>();
-
-      boolean portA = line.getiAMag().isGreaterThanOrEqualTo(line.getiBMag());
-
-      if (attrs.contains(CURRENT_MAG)) {
-        ComparableQuantity<ElectricCurrent> current = portA ? line.getiAMag() : line.getiBMag();
-        data.put(CURRENT_MAG, toAmpere(current));
-      }
+        // handle em data, most entities only have results
+        if (!emData.isEmpty()) {
+          AttributeMap attributes = data;
+          emData.stream()
+              .map(d -> handleEmData(d, index))
+              .collect(Collectors.groupingBy(ProcessedEmData::attr))
+              .forEach(
+                  (attr, processedEmDataList) -> {
+                    if (attr.equals(FLEX_COM)) {
+                      attributes.put(
+                          attr, processedEmDataList.stream().map(ProcessedEmData::data).toList());
+                    } else {
+                      attributes.put(attr, processedEmDataList.getFirst().data);
+                    }
+                  });
+        }
 
-      if (attrs.contains(CURRENT_ANG)) {
-        ComparableQuantity<Angle> angle = portA ? line.getiAAng() : line.getiBAng();
-        data.put(CURRENT_ANG, toRadians(angle));
-      }
+        if (!data.isEmpty() && output != null) {
+          output.put(externalEntity, data);
+        }
 
-      return data;
-    } else {
-      if (result != null) {
-        log.warn("Connector result of type '{}' are not supported.", result.getClass());
+      } else {
+        log.debug("No results or em data found for asset {}.", externalEntity);
       }
     }
-
-    return Collections.emptyMap();
   }
 
-  private static Map<String, Object> handleParticipantResult(
-      SystemParticipantResult result, List<String> attrs) {
-    Map<String, Object> data = new HashMap<>();
+  /** Writes the requested results of the given entity, that passed the filter, into the data. */
+  private static void handleResults(
+      ResultBuffer buffer,
+      int entity,
+      int mask,
+      long tick,
+      EntityIndex index,
+      DeltaFilter filter,
+      AttributeMap data) {
+    CongestionResult congestion = buffer.congestion(entity);
 
-    if (attrs.contains(ACTIVE_POWER)) {
-      data.put(ACTIVE_POWER, toActive(result.getP()));
+    if (congestion != null) {
+      handleCongestionResult(congestion, mask, tick, index, data);
     }
 
-    if (attrs.contains(REACTIVE_POWER)) {
-      data.put(REACTIVE_POWER, toActive(result.getQ()));
-    }
+    int requested = buffer.presentMask(entity) & mask & ~ResultAttribute.CONGESTION.mask;
 
-    if (result instanceof SystemParticipantWithHeatResult withHeat
-        && attrs.contains(THERMAL_POWER)) {
-      data.put(THERMAL_POWER, toActive(withHeat.getqDot()));
+    for (int ordinal = 0; requested != 0; ordinal++, requested >>>= 1) {
+      if ((requested & 1) != 0) {
+        ResultAttribute attribute = RESULT_ATTRIBUTES[ordinal];
+        double value = buffer.get(entity, attribute);
+
+        if (filter == null || filter.isChanged(entity, attribute, value)) {
+          data.put(attribute, value);
+        }
+      }
     }
+  }
 
-    if (result instanceof ElectricalEnergyStorageResult storage && attrs.contains(SOC)) {
-      data.put(SOC, toPercent(storage.getSoc()));
+  private static void handleCongestionResult(
+      CongestionResult congestion, int mask, long tick, EntityIndex index, AttributeMap data) {
+    Map<String, Object> congestionData = new HashMap<>();
+
+    if (ResultAttribute.CONGESTION.isIn(mask)) {
+      congestionData.put("model", index.from(congestion.getInputModel()));
+      congestionData.put("tick", tick);
+      congestionData.put("subgrid", congestion.getSubgrid());
+      congestionData.put("type", congestion.getType().type);
+      congestionData.put("value", toPercent(congestion.getValue()));
+      congestionData.put("min", toPercent(congestion.getMin()));
+      congestionData.put("max", toPercent(congestion.getMax()));
     }
 
-    return data;
+    data.put(ResultAttribute.CONGESTION, congestionData);
   }
 
-  private static ProcessedEmData handleEmData(EmData emData, ExtEntityMapping mapping) {
+  private static ProcessedEmData handleEmData(EmData emData, EntityIndex index) {
     return switch (emData) {
       case FlexOptionRequest(UUID receiver, boolean disaggregated) -> {
         Map<String, Object> data = new HashMap<>();
-        data.put("receiver", mapping.from(receiver));
+        data.put("receiver", index.from(receiver));
         data.put("disaggregated", disaggregated);
         yield new ProcessedEmData(FLEX_REQUEST, data);
       }
-      case FlexOptions o -> new ProcessedEmData(FLEX_OPTIONS, handleFlexOptions(o, mapping));
+      case FlexOptions o -> new ProcessedEmData(FLEX_OPTIONS, handleFlexOptions(o, index));
 
       case SetPoint.AggregatedSetPoint(UUID receiver, Optional<PValue> power) -> {
         Map<String, Object> data = new HashMap<>();
-        data.put("receiver", mapping.from(receiver));
+        data.put("receiver", index.from(receiver));
 
         // only add power if it is not empty
         power.ifPresent(powerValue -> data.putAll(fromPValue(powerValue)));
@@ -225,13 +351,12 @@ public final class OutputUtils {
 
       case SetPoint.DisaggregatedSetPoints(UUID receiver, Map<UUID, PValue> disaggregated) -> {
         Map<String, Object> data = new HashMap<>();
-        data.put("receiver", mapping.from(receiver));
+        data.put("receiver", index.from(receiver));
 
         // handle disaggregated set points
         Map<String, Map<String, Double>> disaggregatedSetPoints = new HashMap<>();
         disaggregated.forEach(
-            (uuid, setPoint) ->
-                disaggregatedSetPoints.put(mapping.from(uuid), fromPValue(setPoint)));
+            (uuid, setPoint) -> disaggregatedSetPoints.put(index.from(uuid), fromPValue(setPoint)));
 
         data.put("disaggregated", disaggregatedSetPoints);
 
@@ -240,12 +365,12 @@ public final class OutputUtils {
 
       case EmCommunicationMessage(UUID receiver, UUID sender, UUID msgId, EmData content) -> {
         Map<String, Object> data = new HashMap<>();
-        data.put("receiver", mapping.from(receiver));
-        data.put("sender", mapping.from(sender));
+        data.put("receiver", index.from(receiver));
+        data.put("sender", index.from(sender));
         data.put("msg_id", msgId.toString());
 
         // handle content
-        ProcessedEmData processedContent = handleEmData(content, mapping);
+        ProcessedEmData processedContent = handleEmData(content, index);
 
         data.put("type", processedContent.attr);
         data.put("content", processedContent.data);
@@ -260,12 +385,11 @@ public final class OutputUtils {
     };
   }
 
-  private static Map<String, Object> handleFlexOptions(
-      FlexOptions options, ExtEntityMapping mapping) {
+  private static Map<String, Object> handleFlexOptions(FlexOptions options, EntityIndex index) {
     Map<String, Object> res = new HashMap<>();
 
     // handling of receiver
-    res.put("receiver", mapping.from(options.receiver()));
+    res.put("receiver", index.from(options.receiver()));
 
     switch (options) {
       case DisaggregatedFlexOptions(
@@ -275,8 +399,7 @@ public final class OutputUtils {
             disaggregated.entrySet().stream()
                 .collect(
                     Collectors.toMap(
-                        e -> mapping.from(e.getKey()),
-                        e -> handleFlexOptions(e.getValue(), mapping)));
+                        e -> index.from(e.getKey()), e -> handleFlexOptions(e.getValue(), index)));
 
         // handling of disaggregated flex options
         res.put("disaggregated", disaggregatedData);
@@ -288,7 +411,7 @@ public final class OutputUtils {
               ComparableQuantity<Power> pRef,
               ComparableQuantity<Power> pMin,
               ComparableQuantity<Power> pMax) -> {
-        res.put("model", mapping.from(model));
+        res.put("model", index.from(model));
         res.put(FLEX_OPTION_P_REF, toActive(pRef));
         res.put(FLEX_OPTION_P_MIN, toActive(pMin));
         res.put(FLEX_OPTION_P_MAX, toActive(pMax));
@@ -298,7 +421,7 @@ public final class OutputUtils {
               UUID receiver,
               UUID model,
               List<EnergyBoundariesFlexOptions.AssetEnergyBoundaries> energyBoundaries) -> {
-        res.put("model", mapping.from(model));
+        res.put("model", index.from(model));
         res.put("energyBoundaries", handleEnergyBoundaries(energyBoundaries));
       }
 
@@ -361,31 +484,31 @@ public final class OutputUtils {
   }
 
   public static double toActive(ComparableQuantity<Power> c) {
-    return c.to(MEGAWATT).getValue().doubleValue();
+    return TO_MEGAWATT.convert(c);
   }
 
   public static double toReactive(ComparableQuantity<Power> c) {
-    return c.to(MEGAVAR).getValue().doubleValue();
+    return TO_MEGAVAR.convert(c);
   }
 
   public static double toEnergy(ComparableQuantity<Energy> c) {
-    return c.to(MEGAWATTHOUR).getValue().doubleValue();
+    return TO_MEGAWATTHOUR.convert(c);
   }
 
   public static double toPu(ComparableQuantity<Dimensionless> c) {
-    return c.to(PU).getValue().doubleValue();
+    return TO_PU.convert(c);
   }
 
   public static double toAmpere(ComparableQuantity<ElectricCurrent> c) {
-    return c.to(AMPERE).getValue().doubleValue();
+    return TO_AMPERE.convert(c);
   }
 
   public static double toRadians(ComparableQuantity<Angle> c) {
-    return c.to(RADIAN).getValue().doubleValue();
+    return TO_RADIAN.convert(c);
   }
 
   public static double toPercent(ComparableQuantity<Dimensionless> c) {
-    return c.to(PERCENT).getValue().doubleValue();
+    return TO_PERCENT.convert(c);
   }
 
   // helper class
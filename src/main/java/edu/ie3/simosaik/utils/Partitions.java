@@ -0,0 +1,57 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/** Methods for processing large collections in partitions on the common fork-join pool. */
+public final class Partitions {
+
+  /** Number of partitions per thread of the pool, to balance partitions with uneven costs. */
+  private static final int PARTITIONS_PER_THREAD = 4;
+
+  private Partitions() {
+    throw new Error("Do not instantiate utility class!");
+  }
+
+  /**
+   * Method to split the index range {@code [0, size)} into partitions, that are processed
+   * concurrently. The results are returned in the order of the partitions, so merging them
+   * sequentially is deterministic.
+   *
+   * @param size of the index range
+   * @param function that processes a single partition
+   * @return the results of all partitions
+   * @param <R> type of result
+   */
+  public static <R> List<R> process(int size, RangeFunction<R> function) {
+    int threads = ForkJoinPool.getCommonPoolParallelism();
+    int partitions = Math.max(1, Math.min(size, threads * PARTITIONS_PER_THREAD));
+
+    return IntStream.range(0, partitions)
+        .parallel()
+        .mapToObj(
+            partition -> {
+              int from = (int) ((long) size * partition / partitions);
+              int to = (int) ((long) size * (partition + 1) / partitions);
+              return function.apply(from, to);
+            })
+        .toList();
+  }
+
+  /**
+   * Function, that processes the index range {@code [from, to)}.
+   *
+   * @param <R> type of result
+   */
+  @FunctionalInterface
+  public interface RangeFunction<R> {
+    R apply(int from, int to);
+  }
+}
@@ -0,0 +1,282 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import edu.ie3.simosaik.ResultAttribute;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Aggregator, that combines all results between two mosaik exchanges into one value per attribute.
+ * SIMONA may calculate results at a finer resolution than the step size of mosaik. Without
+ * aggregation, only the last result of an entity reaches mosaik.
+ *
+ * <p>Each result holds its value from its timestamp until the next result of the same entity.
+ * Therefore, the value of the last result is carried into the next aggregation window. The
+ * accumulators are kept per entity in primitive arrays. Each entity, that ever had a result, gets
+ * an aggregate at every exchange.
+ *
+ * <p>The energy of a power is sent under its own attribute, e.g. {@code E[MWh]} for {@code P[MW]},
+ * while the power itself is sent as its last value.
+ */
+public final class ResultAggregator {
+  private static final ResultAttribute[] RESULT_ATTRIBUTES = ResultAttribute.values();
+
+  /** Seconds per hour, used to convert MW·s into MWh. */
+  private static final double SECONDS_PER_HOUR = 3600d;
+
+  private static final long NONE = Long.MIN_VALUE;
+
+  // indexed by the ordinal of the result attribute, null for attributes that are not aggregated
+  private final Mode[] modes;
+  private final Accumulator[] accumulators;
+  private final long start;
+
+  // end of the last aggregation window in epoch seconds
+  private long windowStart = NONE;
+
+  private ResultAggregator(Mode[] modes, long start) {
+    this.modes = modes;
+    this.accumulators = new Accumulator[modes.length];
+    this.start = start;
+  }
+
+  /**
+   * Method to parse the aggregation modes provided by mosaik. Each attribute is mapped to the name
+   * of a {@link Mode}. The given start of the SIMONA simulation is needed to determine the time of
+   * the exchanges.
+   *
+   * @param config map: attribute to mode
+   * @param start of the SIMONA simulation as ISO-8601 date time with offset
+   * @return a new aggregator
+   */
+  public static ResultAggregator parse(Map<String, Object> config, String start) {
+    Mode[] modes = new Mode[RESULT_ATTRIBUTES.length];
+
+    config.forEach(
+        (attr, value) -> {
+          // the energies are only derived from the powers
+          ResultAttribute attribute =
+              ResultAttribute.parse(attr)
+                  .filter(a -> a != ResultAttribute.CONGESTION && !isEnergy(a))
+                  .orElseThrow(
+                      () -> new IllegalArgumentException("Cannot aggregate attribute: " + attr));
+
+          Mode mode = Mode.parse(String.valueOf(value));
+
+          if (mode == Mode.ENERGY && energyOf(attribute) == null) {
+            throw new IllegalArgumentException(
+                "The energy can only be aggregated for power attributes, but was set for: " + attr);
+          }
+
+          // the last value is the behaviour without aggregation
+          modes[attribute.ordinal()] = mode != Mode.LAST ? mode : null;
+        });
+
+    if (start == null) {
+      throw new IllegalArgumentException(
+          "The start of the simulation must be set to aggregate results!");
+    }
+
+    try {
+      return new ResultAggregator(modes, ZonedDateTime.parse(start).toEpochSecond());
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Cannot parse the start of the simulation: " + start, e);
+    }
+  }
+
+  /** Returns true, if the given attribute is aggregated. */
+  public boolean isAggregated(ResultAttribute attribute) {
+    return modes[attribute.ordinal()] != null;
+  }
+
+  /**
+   * Allocates the accumulators for the given number of entities.
+   *
+   * @param entities number of entities
+   */
+  void allocate(int entities) {
+    for (int i = 0; i < modes.length; i++) {
+      accumulators[i] = modes[i] != null ? new Accumulator(entities) : null;
+    }
+  }
+
+  /**
+   * Adds a value to the aggregate of the current window.
+   *
+   * @param entity index of the entity
+   * @param attribute aggregated attribute
+   * @param time of the value in epoch seconds
+   * @param value in mosaik units
+   */
+  void accept(int entity, ResultAttribute attribute, long time, double value) {
+    accumulators[attribute.ordinal()].accept(entity, Math.max(time, windowStart), value);
+  }
+
+  /**
+   * Completes the current aggregation window and writes the aggregates into the given buffer.
+   *
+   * @param tick of the exchange in SIMONA ticks
+   * @param buffer to write into
+   */
+  void finish(long tick, ResultBuffer buffer) {
+    long windowEnd = start + tick;
+
+    for (int i = 0; i < modes.length; i++) {
+      if (modes[i] != null) {
+        accumulators[i].finish(windowEnd, RESULT_ATTRIBUTES[i], modes[i], buffer);
+      }
+    }
+
+    windowStart = windowEnd;
+  }
+
+  /** Returns the energy attribute of the given power attribute or {@code null}. */
+  private static ResultAttribute energyOf(ResultAttribute attribute) {
+    return switch (attribute) {
+      case ACTIVE_POWER -> ResultAttribute.ACTIVE_ENERGY;
+      case REACTIVE_POWER -> ResultAttribute.REACTIVE_ENERGY;
+      case THERMAL_POWER -> ResultAttribute.THERMAL_ENERGY;
+      default -> null;
+    };
+  }
+
+  private static boolean isEnergy(ResultAttribute attribute) {
+    return switch (attribute) {
+      case ACTIVE_ENERGY, REACTIVE_ENERGY, THERMAL_ENERGY -> true;
+      default -> false;
+    };
+  }
+
+  /** Modes for the aggregation of results. */
+  public enum Mode {
+    /** The last value. */
+    LAST,
+    /** The time weighted mean. */
+    MEAN,
+    /** The minimal value. */
+    MIN,
+    /** The maximal value. */
+    MAX,
+    /** The integral of a power over time in MWh or MVArh, sent under its energy attribute. */
+    ENERGY;
+
+    /**
+     * Method to parse a mode.
+     *
+     * @param mode name of the mode, case-insensitive
+     * @return the mode
+     */
+    public static Mode parse(String mode) {
+      return switch (mode.toLowerCase(Locale.ROOT)) {
+        case "last" -> LAST;
+        case "mean" -> MEAN;
+        case "min" -> MIN;
+        case "max" -> MAX;
+        case "energy" -> ENERGY;
+        default -> throw new IllegalArgumentException("Unknown aggregation mode: " + mode);
+      };
+    }
+  }
+
+  /** Accumulators of one attribute for all entities. */
+  private static final class Accumulator {
+    private final double[] last;
+    private final long[] lastTime;
+    private final long[] since;
+    private final double[] integral;
+    private final double[] min;
+    private final double[] max;
+
+    // true, if min and max only contain the carried value, that was not held yet
+    private final boolean[] carried;
+
+    // entities with at least one value
+    private int[] known = new int[16];
+    private int knownCount;
+
+    private Accumulator(int entities) {
+      this.last = new double[entities];
+      this.lastTime = new long[entities];
+      this.since = new long[entities];
+      this.integral = new double[entities];
+      this.min = new double[entities];
+      this.max = new double[entities];
+      this.carried = new boolean[entities];
+
+      Arrays.fill(lastTime, NONE);
+    }
+
+    private void accept(int entity, long time, double value) {
+      if (lastTime[entity] == NONE) {
+        if (knownCount == known.length) {
+          known = Arrays.copyOf(known, knownCount * 2);
+        }
+
+        known[knownCount++] = entity;
+        since[entity] = time;
+        min[entity] = value;
+        max[entity] = value;
+      } else {
+        long from = Math.max(lastTime[entity], since[entity]);
+
+        if (time > from) {
+          integral[entity] += last[entity] * (time - from);
+        }
+
+        if (carried[entity] && time <= since[entity]) {
+          // the carried value is replaced at the start of the window
+          min[entity] = value;
+          max[entity] = value;
+        } else {
+          min[entity] = Math.min(min[entity], value);
+          max[entity] = Math.max(max[entity], value);
+        }
+      }
+
+      carried[entity] = false;
+      last[entity] = value;
+      lastTime[entity] = Math.max(time, lastTime[entity]);
+    }
+
+    private void finish(long windowEnd, ResultAttribute attribute, Mode mode, ResultBuffer buffer) {
+      for (int i = 0; i < knownCount; i++) {
+        int entity = known[i];
+
+        long from = Math.max(lastTime[entity], since[entity]);
+
+        if (windowEnd > from) {
+          integral[entity] += last[entity] * (windowEnd - from);
+        }
+
+        long duration = windowEnd - since[entity];
+
+        double value =
+            switch (mode) {
+              case LAST, ENERGY -> last[entity];
+              case MEAN -> duration > 0 ? integral[entity] / duration : last[entity];
+              case MIN -> min[entity];
+              case MAX -> max[entity];
+            };
+
+        buffer.put(entity, attribute, value);
+
+        if (mode == Mode.ENERGY) {
+          buffer.put(entity, energyOf(attribute), integral[entity] / SECONDS_PER_HOUR);
+        }
+
+        // the last value is carried into the next window
+        integral[entity] = 0d;
+        since[entity] = windowEnd;
+        min[entity] = last[entity];
+        max[entity] = last[entity];
+        carried[entity] = true;
+      }
+    }
+  }
+}
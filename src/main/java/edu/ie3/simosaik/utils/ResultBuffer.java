@@ -0,0 +1,277 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import static edu.ie3.simosaik.utils.OutputUtils.*;
+
+import edu.ie3.datamodel.models.result.CongestionResult;
+import edu.ie3.datamodel.models.result.NodeResult;
+import edu.ie3.datamodel.models.result.ResultEntity;
+import edu.ie3.datamodel.models.result.connector.ConnectorResult;
+import edu.ie3.datamodel.models.result.connector.LineResult;
+import edu.ie3.datamodel.models.result.system.ElectricalEnergyStorageResult;
+import edu.ie3.datamodel.models.result.system.SystemParticipantResult;
+import edu.ie3.datamodel.models.result.system.SystemParticipantWithHeatResult;
+import edu.ie3.simosaik.ResultAttribute;
+import java.util.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Columnar store of the results of a tick. The results are converted once into the mosaik units and
+ * stored in one primitive column per {@link ResultAttribute}, that is indexed by the entities of an
+ * {@link EntityIndex}. A mask per entity marks the present attributes. Congestion results are no
+ * scalars and are stored as objects.
+ *
+ * <p>If a {@link ResultAggregator} is set, the aggregated attributes are not stored directly.
+ * Instead, all their values are passed to the aggregator and the aggregates are stored at the end
+ * of filling.
+ *
+ * <p>The buffer is filled once per tick and is only read afterward. Therefore, the buffer can be
+ * read by multiple threads after filling. Filling only clears the entities of the last tick, so
+ * that the cost of a tick depends on the number of results and not on the number of entities.
+ */
+public final class ResultBuffer {
+  private static final Logger log = LoggerFactory.getLogger(ResultBuffer.class);
+
+  private static final ResultAttribute[] ATTRIBUTES = ResultAttribute.values();
+
+  private final EntityIndex index;
+
+  // columns are allocated on first use
+  private final double[][] columns = new double[ATTRIBUTES.length][];
+  private final int[] present;
+  private final CongestionResult[] congestions;
+
+  // entities with present results
+  private int[] touched = new int[16];
+  private int touchedCount;
+
+  // null, if results are not aggregated
+  private ResultAggregator aggregator;
+
+  public ResultBuffer(EntityIndex index) {
+    this.index = index;
+    this.present = new int[index.size()];
+    this.congestions = new CongestionResult[index.size()];
+  }
+
+  /**
+   * Creates a new buffer with the given results.
+   *
+   * @param index of all entities
+   * @param results map: uuid to results
+   * @return a filled buffer
+   */
+  public static ResultBuffer of(EntityIndex index, Map<UUID, List<ResultEntity>> results) {
+    ResultBuffer buffer = new ResultBuffer(index);
+    buffer.fill(results);
+    return buffer;
+  }
+
+  /** Returns the index of this buffer. */
+  public EntityIndex index() {
+    return index;
+  }
+
+  /**
+   * Sets the aggregator for the results of this buffer.
+   *
+   * @param aggregator to use
+   */
+  public void setAggregator(ResultAggregator aggregator) {
+    aggregator.allocate(present.length);
+    this.aggregator = aggregator;
+  }
+
+  /**
+   * Replaces the content of this buffer with the given results. If an entity has multiple results,
+   * the values of later results overwrite the values of earlier results. This method cannot be used
+   * with an aggregator, since the tick of the results is unknown.
+   *
+   * @param results map: uuid to results
+   */
+  public void fill(Map<UUID, List<ResultEntity>> results) {
+    if (aggregator != null) {
+      throw new IllegalStateException("The tick is needed to aggregate results!");
+    }
+
+    fillResults(results);
+  }
+
+  /**
+   * Replaces the content of this buffer with the given results of the given tick. If an aggregator
+   * is set, the aggregation window is completed at the given tick. Otherwise, the values of later
+   * results overwrite the values of earlier results.
+   *
+   * @param results map: uuid to results
+   * @param tick of the results in SIMONA ticks
+   */
+  public void fill(Map<UUID, List<ResultEntity>> results, long tick) {
+    fillResults(results);
+
+    if (aggregator != null) {
+      aggregator.finish(tick, this);
+    }
+  }
+
+  private void fillResults(Map<UUID, List<ResultEntity>> results) {
+    clear();
+
+    for (Map.Entry<UUID, List<ResultEntity>> entry : results.entrySet()) {
+      int entity = index.indexOf(entry.getKey());
+
+      if (entity == EntityIndex.MISSING) {
+        log.debug("Ignoring results of unknown entity {}.", entry.getKey());
+        continue;
+      }
+
+      List<ResultEntity> entityResults = entry.getValue();
+
+      if (aggregator != null && entityResults.size() > 1) {
+        // the aggregator expects the results in chronological order
+        entityResults = new ArrayList<>(entityResults);
+        entityResults.sort(Comparator.comparing(ResultEntity::getTime));
+      }
+
+      for (ResultEntity result : entityResults) {
+        add(entity, result);
+      }
+    }
+  }
+
+  /** Removes all results. */
+  public void clear() {
+    for (int i = 0; i < touchedCount; i++) {
+      int entity = touched[i];
+      present[entity] = 0;
+      congestions[entity] = null;
+    }
+
+    touchedCount = 0;
+  }
+
+  /**
+   * Adds the given result of the given entity to this buffer.
+   *
+   * @param entity index of the entity
+   * @param result to add
+   */
+  public void add(int entity, ResultEntity result) {
+    switch (result) {
+      case SystemParticipantResult participant -> {
+        set(entity, ResultAttribute.ACTIVE_POWER, result, toActive(participant.getP()));
+        set(entity, ResultAttribute.REACTIVE_POWER, result, toActive(participant.getQ()));
+
+        if (participant instanceof SystemParticipantWithHeatResult withHeat) {
+          set(entity, ResultAttribute.THERMAL_POWER, result, toActive(withHeat.getqDot()));
+        }
+
+        if (participant instanceof ElectricalEnergyStorageResult storage) {
+          set(entity, ResultAttribute.SOC, result, toPercent(storage.getSoc()));
+        }
+      }
+      case NodeResult node -> {
+        set(entity, ResultAttribute.VOLTAGE_MAG, result, toPu(node.getvMag()));
+        set(entity, ResultAttribute.VOLTAGE_ANG, result, toRadians(node.getvAng()));
+      }
+      case LineResult line -> {
+        boolean portA = line.getiAMag().isGreaterThanOrEqualTo(line.getiBMag());
+
+        set(
+            entity,
+            ResultAttribute.CURRENT_MAG,
+            result,
+            toAmpere(portA ? line.getiAMag() : line.getiBMag()));
+        set(
+            entity,
+            ResultAttribute.CURRENT_ANG,
+            result,
+            toRadians(portA ? line.getiAAng() : line.getiBAng()));
+      }
+      case CongestionResult congestion -> {
+        touch(entity);
+        congestions[entity] = congestion;
+        present[entity] |= ResultAttribute.CONGESTION.mask;
+      }
+      case ConnectorResult connector ->
+          log.warn("Connector result of type '{}' are not supported.", connector.getClass());
+      case null -> {}
+      default -> log.warn("Result of type '{}' is currently not supported.", result.getClass());
+    }
+  }
+
+  /**
+   * Sets the value of an attribute of the given entity.
+   *
+   * @param entity index of the entity
+   * @param attribute scalar attribute
+   * @param value in mosaik units
+   */
+  public void put(int entity, ResultAttribute attribute, double value) {
+    double[] column = columns[attribute.ordinal()];
+
+    if (column == null) {
+      column = new double[present.length];
+      columns[attribute.ordinal()] = column;
+    }
+
+    touch(entity);
+    column[entity] = value;
+    present[entity] |= attribute.mask;
+  }
+
+  /** Sets the value or passes it to the aggregator, if the attribute is aggregated. */
+  private void set(int entity, ResultAttribute attribute, ResultEntity result, double value) {
+    if (aggregator != null && aggregator.isAggregated(attribute)) {
+      aggregator.accept(entity, attribute, result.getTime().toEpochSecond(), value);
+    } else {
+      put(entity, attribute, value);
+    }
+  }
+
+  /** Returns the mask of all present attributes of the given entity. */
+  public int presentMask(int entity) {
+    return present[entity];
+  }
+
+  /** Returns true, if the given attribute of the given entity is present. */
+  public boolean has(int entity, ResultAttribute attribute) {
+    return attribute.isIn(present[entity]);
+  }
+
+  /**
+   * Returns the value of the given attribute. The value is only valid, if the attribute is present.
+   *
+   * @param entity index of the entity
+   * @param attribute scalar attribute
+   * @return the value in mosaik units
+   */
+  public double get(int entity, ResultAttribute attribute) {
+    return columns[attribute.ordinal()][entity];
+  }
+
+  /** Returns the congestion result of the given entity or {@code null}. */
+  public CongestionResult congestion(int entity) {
+    return congestions[entity];
+  }
+
+  /** Returns the number of entities with results. */
+  public int entityCount() {
+    return touchedCount;
+  }
+
+  private void touch(int entity) {
+    if (present[entity] == 0) {
+      if (touchedCount == touched.length) {
+        touched = Arrays.copyOf(touched, touchedCount * 2);
+      }
+
+      touched[touchedCount++] = entity;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import edu.ie3.datamodel.models.result.ResultEntity;
+import java.util.*;
+
+/**
+ * Read-only view of the result assets, that mosaik is subscribed to. The view is shared between
+ * mosaik and the external simulation, so that only the results of subscribed assets are requested
+ * and handed to mosaik. Only the simulator, that receives the data requests of mosaik, holds the
+ * {@link MutableResultSubscription}, that is updated.
+ */
+public interface ResultSubscription {
+
+  /** Returns a subscription to all results. */
+  static ResultSubscription all() {
+    return new MutableResultSubscription();
+  }
+
+  /**
+   * Returns a subscription, that contains the results of all given subscriptions. The returned
+   * subscription follows the updates of the given subscriptions.
+   *
+   * @param parts subscriptions to combine
+   * @return the union of the subscriptions
+   */
+  static ResultSubscription union(List<? extends ResultSubscription> parts) {
+    return parts.size() == 1 ? parts.getFirst() : new Union(List.copyOf(parts));
+  }
+
+  /** Returns true, if all results are subscribed. */
+  boolean isAll();
+
+  /** Returns true, if no results are subscribed. */
+  boolean isEmpty();
+
+  /** Returns true, if the results of the given asset are subscribed. */
+  boolean contains(UUID uuid);
+
+  /**
+   * Method to remove all results, that are not subscribed.
+   *
+   * @param results map: uuid to results
+   * @return map: subscribed uuid to results
+   */
+  default Map<UUID, List<ResultEntity>> filter(Map<UUID, List<ResultEntity>> results) {
+    if (isAll()) {
+      return results;
+    }
+
+    Map<UUID, List<ResultEntity>> filtered = new HashMap<>();
+    results.forEach(
+        (uuid, entities) -> {
+          if (contains(uuid)) {
+            filtered.put(uuid, entities);
+          }
+        });
+    return filtered;
+  }
+
+  /**
+   * Union of the subscriptions of multiple simulators.
+   *
+   * @param parts subscriptions to combine
+   */
+  record Union(List<ResultSubscription> parts) implements ResultSubscription {
+
+    @Override
+    public boolean isAll() {
+      return parts.stream().anyMatch(ResultSubscription::isAll);
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return parts.stream().allMatch(ResultSubscription::isEmpty);
+    }
+
+    @Override
+    public boolean contains(UUID uuid) {
+      return parts.stream().anyMatch(part -> part.contains(uuid));
+    }
+
+    @Override
+    public String toString() {
+      return "ResultSubscription" + parts;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+/**
+ * Converter, that converts quantities into a fixed target unit using plain double arithmetic. The
+ * conversion of each source unit is resolved once into a scalar factor and cached afterward.
+ * Conversions, that cannot be expressed this way, e.g. conversions with an offset, fall back to the
+ * cached unit converter.
+ *
+ * <p>Since indriya converts quantities using the decimal representation of their values, the
+ * results of this converter can differ from {@code quantity.to(unit)} by at most one ulp.
+ *
+ * @param <Q> type of quantity
+ */
+public final class ScalarConverter<Q extends Quantity<Q>> {
+
+  private final Unit<Q> target;
+  private final Map<Unit<Q>, Conversion> conversions = new ConcurrentHashMap<>();
+
+  // most quantities of one kind share the same unit, so the last conversion is checked first
+  private volatile Conversion last;
+
+  public ScalarConverter(Unit<Q> target) {
+    this.target = target;
+  }
+
+  public Unit<Q> getTarget() {
+    return target;
+  }
+
+  /**
+   * Method to convert the given quantity into the target unit.
+   *
+   * @param quantity to convert
+   * @return the value in the target unit
+   */
+  public double convert(Quantity<Q> quantity) {
+    return convert(quantity.getValue().doubleValue(), quantity.getUnit());
+  }
+
+  /**
+   * Method to convert the given value into the target unit.
+   *
+   * @param value to convert
+   * @param unit of the value
+   * @return the value in the target unit
+   */
+  public double convert(double value, Unit<Q> unit) {
+    Conversion conversion = last;
+
+    if (conversion == null || conversion.source != unit) {
+      conversion = conversions.computeIfAbsent(unit, this::resolve);
+      last = conversion;
+    }
+
+    return conversion.apply(value);
+  }
+
+  private Conversion resolve(Unit<Q> source) {
+    UnitConverter converter = source.getConverterTo(target);
+
+    if (converter.isIdentity()) {
+      return new Conversion(source, Operation.IDENTITY, 1d, converter);
+    }
+
+    double offset = converter.convert(0d);
+
+    // adding an offset cancels digits, e.g. for celsius close to absolute zero
+    if (offset != 0d) {
+      return new Conversion(source, Operation.CONVERTER, 1d, converter);
+    }
+
+    double factor = converter.convert(1d);
+
+    // a factor like 1/1000 cannot be represented exactly, dividing keeps the result exact
+    double divisor = 1d / factor;
+    if (divisor == Math.rint(divisor) && Math.abs(divisor) > 1d) {
+      return verified(new Conversion(source, Operation.DIVIDE, divisor, converter));
+    }
+
+    return verified(new Conversion(source, Operation.MULTIPLY, factor, converter));
+  }
+
+  /** Falls back to the converter, if the scalar form does not reproduce it. */
+  private Conversion verified(Conversion conversion) {
+    for (double probe : new double[] {-1234.5678, 0.1, 1e6}) {
+      double expected = conversion.converter.convert(probe);
+
+      if (Double.compare(conversion.apply(probe), expected) != 0) {
+        return new Conversion(conversion.source, Operation.CONVERTER, 1d, conversion.converter);
+      }
+    }
+
+    return conversion;
+  }
+
+  private enum Operation {
+    IDENTITY,
+    MULTIPLY,
+    DIVIDE,
+    CONVERTER
+  }
+
+  private record Conversion(
+      Unit<?> source, Operation operation, double scalar, UnitConverter converter) {
+    private double apply(double value) {
+      return switch (operation) {
+        case IDENTITY -> value;
+        case MULTIPLY -> value * scalar;
+        case DIVIDE -> value / scalar;
+        case CONVERTER -> converter.convert(value);
+      };
+    }
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Arena for the mosaik output of one tick. The output map and the {@link AttributeMap} of each
+ * planned entity are kept and reused on the next tick, so that a steady state tick does not create
+ * new maps or hash entries. Therefore, the output of a tick is only valid until the output of the
+ * next tick is created. Anything, that keeps the output for longer, needs to {@link #copy(Map)} it.
+ *
+ * <p>The attribute map of an entity is addressed by its index in the {@link OutputPlan}. Different
+ * entities can therefore be encoded concurrently. If the plan changes, all attribute maps are
+ * dropped.
+ */
+public final class TickArena {
+
+  private final Output output = new Output();
+
+  private OutputPlan plan;
+  private AttributeMap[] data = new AttributeMap[0];
+
+  /**
+   * Starts the output of a new tick. The output of the last tick is cleared.
+   *
+   * @param plan of the current tick
+   */
+  void begin(OutputPlan plan) {
+    if (this.plan != plan) {
+      this.plan = plan;
+      this.data = new AttributeMap[plan.size()];
+      output.included = new boolean[plan.size()];
+    }
+
+    output.clear();
+  }
+
+  /**
+   * Returns the cleared attribute map of the given entity. The map of every planned entity needs to
+   * be requested once per tick, so no data of the last tick is left.
+   *
+   * @param entity index of the entity in the plan
+   * @return the attribute map
+   */
+  AttributeMap data(int entity) {
+    AttributeMap map = data[entity];
+
+    if (map == null) {
+      map = new AttributeMap();
+      data[entity] = map;
+    } else {
+      map.clear();
+    }
+
+    return map;
+  }
+
+  /**
+   * Adds all entities with a non-empty attribute map to the output of the current tick.
+   *
+   * @return the output map of the current tick
+   */
+  Map<String, Object> collect() {
+    for (int i = 0; i < data.length; i++) {
+      if (data[i] != null && !data[i].isEmpty()) {
+        output.included[i] = true;
+        output.size++;
+      }
+    }
+
+    return output;
+  }
+
+  /**
+   * Returns a copy of the given output, that is not changed by the following ticks.
+   *
+   * @param output map: mosaik entity to attribute data
+   * @return a copy of the output and all attribute maps
+   */
+  public static Map<String, Object> copy(Map<String, Object> output) {
+    Map<String, Object> copy = HashMap.newHashMap(output.size());
+
+    output.forEach(
+        (entity, value) ->
+            copy.put(entity, value instanceof Map<?, ?> map ? new HashMap<>(map) : value));
+
+    return copy;
+  }
+
+  /**
+   * Output map, that contains the attribute maps of the included entities. The mosaik ids are taken
+   * from the plan. Entries, that are added from outside, are kept in an additional map. The lookup
+   * of a single entity is linear, since the output is only iterated.
+   */
+  private final class Output extends AbstractMap<String, Object> {
+    private boolean[] included = new boolean[0];
+    private int size;
+    private final Map<String, Object> other = new HashMap<>();
+
+    private final Set<Map.Entry<String, Object>> entrySet =
+        new AbstractSet<>() {
+          @Override
+          public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+          }
+
+          @Override
+          public int size() {
+            return Output.this.size();
+          }
+        };
+
+    @Override
+    public Object put(String key, Object value) {
+      return other.put(key, value);
+    }
+
+    @Override
+    public int size() {
+      return size + other.size();
+    }
+
+    @Override
+    public void clear() {
+      Arrays.fill(included, false);
+      size = 0;
+      other.clear();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+      for (int i = 0; i < included.length; i++) {
+        if (included[i]) {
+          action.accept(plan.id(i), data[i]);
+        }
+      }
+
+      other.forEach(action);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+      return entrySet;
+    }
+
+    /** Iterator over the included entities, followed by the other entries. */
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+      private int next = advance(0);
+      private int last = -1;
+      private Iterator<Map.Entry<String, Object>> others;
+
+      private int advance(int from) {
+        int i = from;
+
+        while (i < included.length && !included[i]) {
+          i++;
+        }
+
+        return i;
+      }
+
+      @Override
+      public boolean hasNext() {
+        if (next < included.length) {
+          return true;
+        }
+
+        if (others == null) {
+          others = other.entrySet().iterator();
+        }
+
+        return others.hasNext();
+      }
+
+      @Override
+      public Map.Entry<String, Object> next() {
+        if (next < included.length) {
+          last = next;
+          next = advance(next + 1);
+          return new SimpleImmutableEntry<>(plan.id(last), data[last]);
+        }
+
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        last = -1;
+        return others.next();
+      }
+
+      @Override
+      public void remove() {
+        if (last >= 0) {
+          included[last] = false;
+          size--;
+          last = -1;
+        } else if (others != null) {
+          others.remove();
+        } else {
+          throw new IllegalStateException();
+        }
+      }
+    }
+  }
+}
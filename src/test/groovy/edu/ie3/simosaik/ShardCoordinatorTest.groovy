@@ -0,0 +1,236 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik
+
+import edu.ie3.datamodel.models.value.PValue
+import edu.ie3.simona.api.data.container.ExtInputContainer
+import edu.ie3.simona.api.data.container.ExtOutputContainer
+import edu.ie3.simona.api.simulation.ExtCoSimFramework.HasData
+import edu.ie3.simona.api.simulation.ExtCoSimFramework.SimonaIsBehind
+import edu.ie3.simona.api.simulation.ExtCoSimFramework.Status
+import edu.ie3.util.quantities.PowerSystemUnits
+import java.util.concurrent.ConcurrentHashMap
+import spock.lang.Specification
+import spock.lang.Timeout
+import tech.units.indriya.quantity.Quantities
+
+@Timeout(30)
+class ShardCoordinatorTest extends Specification {
+
+  // exchanges with SIMONA: tick and the sorted names of the shards, whose inputs were merged
+  private final List<List> exchanges = Collections.synchronizedList([])
+
+  // outputs of SIMONA in the order of the exchanges
+  private final List<ExtOutputContainer> outputs = Collections.synchronizedList([])
+
+  // outputs per shard: tick of the input, tick of the output and index of the exchange
+  private final Map<String, List<List<Long>>> received = new ConcurrentHashMap<>()
+
+  private final Map<UUID, String> names = new ConcurrentHashMap<>()
+
+  def "A ShardCoordinator exchanges the inputs of independent shards together"() {
+    given:
+    def a = shard("A")
+    def b = shard("B")
+    def simona = simona(new ShardCoordinator([a, b]), 900L)
+
+    when:
+    def threads = [
+      mosaik(a, [0L, 900L, 1800L]),
+      mosaik(b, [0L, 900L, 1800L])
+    ]
+    finished(threads)
+    simona.interrupt()
+
+    then:
+    exchanges == [
+      [0L, ["A", "B"]],
+      [900L, ["A", "B"]],
+      [1800L, ["A", "B"]]
+    ]
+    received["A"] == [[0L, 0L, 0L], [900L, 900L, 1L], [1800L, 1800L, 2L]]
+    received["B"] == [[0L, 0L, 0L], [900L, 900L, 1L], [1800L, 1800L, 2L]]
+  }
+
+  def "A ShardCoordinator does not wait for a finished shard"() {
+    given:
+    def a = shard("A")
+    def b = shard("B")
+    def simona = simona(new ShardCoordinator([a, b]), 900L)
+
+    when:
+    def threads = [
+      mosaik(a, [0L]),
+      mosaik(b, [0L, 900L, 1800L])
+    ]
+    finished(threads)
+    simona.interrupt()
+
+    then:
+    exchanges == [
+      [0L, ["A", "B"]],
+      [900L, ["B"]],
+      [1800L, ["B"]]
+    ]
+    received["A"] == [[0L, 0L, 0L]]
+    received["B"] == [[0L, 0L, 0L], [900L, 900L, 1L], [1800L, 1800L, 2L]]
+  }
+
+  def "A ShardCoordinator exchanges the inputs of a follower after the other shards of the tick"() {
+    given:
+    def follower = shard("A", true)
+    def leader = shard("B")
+    def simona = simona(new ShardCoordinator([follower, leader]), 900L)
+
+    when:
+    def threads = [
+      // mosaik steps the follower after it received the data of the leader in the same tick
+      mosaik(follower, [0L, 900L, 1800L]) { long tick -> await { outputOf("B", tick) != null } },
+      mosaik(leader, [0L, 900L, 1800L])
+    ]
+    finished(threads)
+    simona.interrupt()
+
+    then:
+    exchanges == [
+      [0L, ["B"]],
+      [0L, ["A"]],
+      [900L, ["B"]],
+      [900L, ["A"]],
+      [1800L, ["B"]],
+      [1800L, ["A"]]
+    ]
+    // the follower receives the output, that was computed with its input
+    received["A"] == [[0L, 0L, 1L], [900L, 900L, 3L], [1800L, 1800L, 5L]]
+    received["B"] == [[0L, 0L, 0L], [900L, 900L, 2L], [1800L, 1800L, 4L]]
+  }
+
+  def "A ShardCoordinator rejects an input for a tick, that SIMONA already left"() {
+    given:
+    def follower = shard("A", true)
+    def leader = shard("B")
+    def simona = simona(new ShardCoordinator([follower, leader]), 1800L)
+
+    when:
+    def threads = [
+      // the follower is stepped before its next tick, after SIMONA went on to tick 1800
+      mosaik(follower, [0L, 900L]) { long tick -> await { tick == 0L || outputOf("B", 1800L) != null } },
+      mosaik(leader, [0L, 1800L])
+    ]
+    finished(threads)
+    simona.interrupt()
+
+    then:
+    exchanges == [
+      [0L, ["B"]],
+      [0L, ["A"]],
+      [1800L, ["B"]]
+    ]
+    // the late input is answered with the last output
+    received["A"] == [[0L, 0L, 1L], [900L, 1800L, 2L]]
+    received["B"] == [[0L, 0L, 0L], [1800L, 1800L, 2L]]
+  }
+
+  private static MosaikSimulator shard(String name, boolean follower = false) {
+    def shard = new MosaikSimulator(name, null, {})
+    shard.@follower = follower
+    return shard
+  }
+
+  /**
+   * Emulates mosaik stepping the given shard in the given ticks. Each input contains one primary
+   * value of the shard. The shard is finished after the last tick.
+   */
+  private Thread mosaik(MosaikSimulator shard, List<Long> ticks, Closure beforeStep = {}) {
+    def uuid = UUID.randomUUID()
+    names[uuid] = shard.name
+    received[shard.name] = Collections.synchronizedList([])
+
+    return Thread.startDaemon {
+      ticks.each { long tick ->
+        beforeStep(tick)
+
+        def input = new ExtInputContainer(tick)
+        input.addPrimaryValue(uuid, new PValue(Quantities.getQuantity(1d, PowerSystemUnits.KILOWATT)))
+
+        ExtOutputContainer output = shard.@rendezvous.exchange(input)
+        received[shard.name] << [
+          tick,
+          output.tick,
+          outputs.findIndexOf { it.is(output) } as long
+        ]
+      }
+
+      shard.finish()
+    }
+  }
+
+  /**
+   * Emulates the external simulation in SIMONA, that asks the coordinator for inputs until it is
+   * interrupted. Each output of SIMONA schedules the next activation after the given interval.
+   */
+  private Thread simona(ShardCoordinator coordinator, long interval) {
+    return Thread.startDaemon {
+      long tick = 0L
+
+      try {
+        while (true) {
+          Status status = coordinator.getStatus(tick)
+
+          if (status instanceof HasData) {
+            ExtInputContainer input = valueOf(status)
+            exchanges << [
+              tick,
+              input.extractPrimaryData().keySet().collect { names[it] }.sort()
+            ]
+
+            def output = new ExtOutputContainer(tick, OptionalLong.of(tick + interval))
+            outputs << output
+            coordinator.provideOutputData(output)
+          } else if (status instanceof SimonaIsBehind) {
+            tick = valueOf(status) as long
+          } else {
+            throw new IllegalStateException("SIMONA is ahead of mosaik in tick " + tick)
+          }
+        }
+      } catch (InterruptedException ignored) {
+        // the simulation is finished
+      }
+    }
+  }
+
+  /** Returns the output, that the given shard received for its input of the given tick. */
+  private List<Long> outputOf(String name, long tick) {
+    return received[name]?.find { it[0] == tick }
+  }
+
+  /** Returns the value of a status, which is the only component of its record. */
+  private static Object valueOf(Status status) {
+    return status.class.recordComponents[0].accessor.invoke(status)
+  }
+
+  private static void await(Closure<Boolean> condition) {
+    long deadline = System.currentTimeMillis() + 10_000L
+
+    while (!condition()) {
+      if (System.currentTimeMillis() > deadline) {
+        throw new IllegalStateException("Condition was not met in time!")
+      }
+
+      Thread.sleep(1L)
+    }
+  }
+
+  /** Waits for mosaik to finish all steps of the shards. */
+  private static void finished(List<Thread> threads) {
+    threads.each { it.join(10_000L) }
+
+    if (threads.any { it.alive }) {
+      throw new IllegalStateException("Mosaik is still waiting for SIMONA!")
+    }
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.recording
+
+import edu.ie3.datamodel.models.result.system.LoadResult
+import edu.ie3.simona.api.data.container.ExtOutputContainer
+import edu.ie3.simona.api.mapping.ExtEntityMapping
+import edu.ie3.simona.api.simulation.ExtCoSimFramework.HasData
+import edu.ie3.simosaik.MosaikSimulator
+import edu.ie3.util.quantities.PowerSystemUnits
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.ZonedDateTime
+import java.util.concurrent.LinkedBlockingQueue
+import spock.lang.Specification
+import spock.lang.Timeout
+import tech.units.indriya.quantity.Quantities
+
+class ExchangeRecorderTest extends Specification {
+  private static final UUID PRIMARY = UUID.fromString("4a6a2e5b-0e33-4e1a-9c3b-5a1b2c3d4e5f")
+  private static final UUID RESULT = UUID.fromString("9d1c7f0e-6b2a-4c8d-8e3f-1a2b3c4d5e6f")
+
+  private Path file
+
+  def setup() {
+    file = Files.createTempFile("exchange", ".log")
+  }
+
+  def cleanup() {
+    Files.deleteIfExists(file)
+  }
+
+  def "An ExchangeRecorder writes the exchanges of a few ticks, that are read back unchanged"() {
+    given:
+    def simParams = ["step_size": 900L, "last_tick": 1800L, "models": ["ActivePower", "Results"]]
+    def use = ["use": [(PRIMARY.toString()): "Primary_0"]]
+    def request = ["Result_0": ["P[MW]", "Q[MVAr]", "simona_next_tick"]]
+
+    def recorded = [
+      [RecordType.INIT, ["Simona-0", 1d, simParams]],
+      [RecordType.CREATE, [1L, "ActivePower", use]],
+      [RecordType.SETUP_DONE, []]
+    ]
+
+    [0L, 900L, 1800L].each { long time ->
+      def inputs = ["Primary_0": ["P[MW]": ["Source-0.x": 0.001d * time]]]
+      def response = ["Result_0": ["P[MW]": 1d + time, "Q[MVAr]": -0d, "simona_next_tick": time + 900L]]
+
+      recorded << [RecordType.STEP, [time, 1800L, inputs]]
+      recorded << [RecordType.NEXT_TICK, [time, time + 900L]]
+      recorded << [RecordType.GET_DATA, [time, request, response]]
+    }
+
+    when:
+    def recorder = ExchangeRecorder.open(file)
+    recorded.each { record(recorder, it[0], it[1]) }
+    recorder.close()
+
+    then:
+    recorder.dropped() == 0L
+    recorder.bytesWritten() == Files.size(file)
+    same(read(), recorded)
+  }
+
+  def "An ExchangeRecorder encodes #value of type #type"() {
+    when:
+    def recorder = ExchangeRecorder.open(file)
+    recorder.recordStep(0L, 0L, ["value": value])
+    recorder.close()
+
+    then:
+    same(read(), [
+      [RecordType.STEP, [0L, 0L, ["value": expected]]]
+    ])
+
+    where:
+    type      | value                                     || expected
+    // varints of one, two and ten bytes with zigzag encoding
+    "Long"    | 0L                                        || 0L
+    "Long"    | -1L                                       || -1L
+    "Long"    | 63L                                       || 63L
+    "Long"    | -64L                                      || -64L
+    "Long"    | 64L                                       || 64L
+    "Long"    | -65L                                      || -65L
+    "Long"    | 1L << 35                                  || 1L << 35
+    "Long"    | Long.MAX_VALUE                            || Long.MAX_VALUE
+    "Long"    | Long.MIN_VALUE                            || Long.MIN_VALUE
+    "Integer" | 0                                         || 0
+    "Integer" | -1                                        || -1
+    "Integer" | Integer.MAX_VALUE                         || Integer.MAX_VALUE
+    "Integer" | Integer.MIN_VALUE                         || Integer.MIN_VALUE
+    "Double"  | 0d                                        || 0d
+    "Double"  | -0d                                       || -0d
+    "Double"  | 0.1d                                      || 0.1d
+    "Double"  | Double.MIN_VALUE                          || Double.MIN_VALUE
+    "Double"  | Double.NaN                                || Double.NaN
+    "Double"  | Double.NEGATIVE_INFINITY                  || Double.NEGATIVE_INFINITY
+    // other numbers are written as double
+    "Float"   | 1.5f                                      || 1.5d
+    "String"  | ""                                        || ""
+    "String"  | "äöü € 😀"                                 || "äöü € 😀"
+    // other objects are written as their string
+    "UUID"    | PRIMARY                                   || PRIMARY.toString()
+    "null"    | null                                      || null
+    "Boolean" | true                                      || true
+    "Boolean" | false                                     || false
+    "List"    | []                                        || []
+    "Map"     | [:]                                       || [:]
+    "List"    | [1L, 1, 1d, "1", null, [2L], ["3": 4L]]   || [1L, 1, 1d, "1", null, [2L], ["3": 4L]]
+    "Map"     | ["a": ["b": ["c": [true, false]]], "": 0] || ["a": ["b": ["c": [true, false]]], "": 0]
+  }
+
+  def "An ExchangeRecorder writes a repeated string only once and refers to it afterwards"() {
+    given:
+    def id = "SimonaPowerGrid-0.Result_" + "0" * 100
+    def response = [(id): ["P[MW]": 1d]]
+
+    when:
+    def recorder = ExchangeRecorder.open(file)
+    recorder.recordGetData(0L, [(id): ["P[MW]"]], response)
+    recorder.flush()
+    long first = recorder.bytesWritten()
+
+    recorder.recordGetData(900L, [(id): ["P[MW]"]], response)
+    recorder.flush()
+    long second = recorder.bytesWritten()
+
+    // the strings are referenced across records, also if used as value
+    recorder.recordStep(1800L, 1800L, ["ids": [id, id]])
+    recorder.close()
+
+    then:
+    // the id is used twice by the first record, but written once
+    first < 2 * id.length()
+    second - first < 40L
+    same(read(), [
+      [RecordType.GET_DATA, [0L, [(id): ["P[MW]"]], response]],
+      [RecordType.GET_DATA, [900L, [(id): ["P[MW]"]], response]],
+      [RecordType.STEP, [1800L, 1800L, ["ids": [id, id]]]]
+    ])
+  }
+
+  @Timeout(30)
+  def "A ReplayDriver reports no mismatches for a recorded co-simulation"() {
+    given:
+    def recording = simulator()
+    def recordingSimona = simona(recording)
+
+    when:
+    recording.init("Simona-0", 1d, [
+      "step_size": 900L,
+      "last_tick": 2700L,
+      "models": ["ActivePower", "Results"],
+      "record": file.toString()
+    ])
+    recording.create(1, "ActivePower", ["use": [(PRIMARY.toString()): "Primary_0"]])
+    recording.create(1, "Results", ["use": [(RESULT.toString()): "Result_0"]])
+    recording.setupDone()
+
+    def responses = [0L, 900L, 1800L].collect { long time ->
+      recording.step(time, ["Primary_0": ["P[MW]": ["Source-0.x": 0.001d * time]]], 2700L)
+      recording.getData(["Result_0": ["P[MW]", "Q[MVAr]"]])
+    }
+
+    recording.cleanup()
+    recordingSimona.interrupt()
+
+    def replay = simulator()
+    def replaySimona = simona(replay)
+    def summary = new ReplayDriver(replay, file).run()
+    replaySimona.interrupt()
+
+    then:
+    responses.every { it.containsKey("Result_0") }
+    summary.steps() == 3L
+    summary.requests() == 3L
+    summary.tickMismatches() == 0L
+    summary.dataMismatches() == 0L
+  }
+
+  private static void record(ExchangeRecorder recorder, RecordType type, List values) {
+    switch (type) {
+      case RecordType.INIT -> recorder.recordInit(values[0], values[1], values[2])
+      case RecordType.CREATE -> recorder.recordCreate(values[0] as int, values[1], values[2])
+      case RecordType.SETUP_DONE -> recorder.recordSetupDone()
+      case RecordType.STEP -> recorder.recordStep(values[0], values[1], values[2])
+      case RecordType.NEXT_TICK -> recorder.recordNextTick(values[0], values[1])
+      case RecordType.GET_DATA -> recorder.recordGetData(values[0], values[1], values[2])
+    }
+  }
+
+  /** Returns all records of the log as pairs of type and values. */
+  private List<List> read() {
+    def records = []
+
+    ExchangeLogReader.open(file).withCloseable { reader ->
+      Optional<ExchangeLogReader.Entry> entry
+
+      while ((entry = reader.next()).isPresent()) {
+        records << [entry.get().type(), entry.get().values()]
+      }
+    }
+
+    return records
+  }
+
+  private static MosaikSimulator simulator() {
+    def simulator = new MosaikSimulator(new ExtEntityMapping([]), {})
+    simulator.setInitDataQueue(new LinkedBlockingQueue<>())
+    return simulator
+  }
+
+  /**
+   * Emulates SIMONA, that answers each tick with a load result of the result entity. The result
+   * only depends on the tick, so that a replay gets the same results.
+   */
+  private static Thread simona(MosaikSimulator simulator) {
+    return Thread.startDaemon {
+      long tick = 0L
+
+      try {
+        while (true) {
+          if (simulator.getStatus(tick) instanceof HasData) {
+            def output = new ExtOutputContainer(tick, OptionalLong.of(tick + 900L))
+            output.addResults([
+              (RESULT): [
+                new LoadResult(
+                ZonedDateTime.parse("2026-01-01T00:00:00Z").plusSeconds(tick),
+                RESULT,
+                Quantities.getQuantity(1d + tick, PowerSystemUnits.MEGAWATT),
+                Quantities.getQuantity(-0.5d * tick, PowerSystemUnits.MEGAVAR))
+              ]
+            ])
+            simulator.provideOutputData(output)
+          } else {
+            simulator.goToNextTick(tick)
+          }
+
+          tick += 900L
+        }
+      } catch (InterruptedException ignored) {
+        // the simulation is finished
+      }
+    }
+  }
+
+  /**
+   * Returns true, if both values are equal and of the same type. Unlike Groovy's equality, this
+   * distinguishes between Long, Integer and Double as well as between 0.0 and -0.0.
+   */
+  private static boolean same(Object actual, Object expected) {
+    if (actual instanceof Map && expected instanceof Map) {
+      return actual.size() == expected.size() && actual.every { key, value ->
+        expected.containsKey(key) && same(value, expected[key])
+      }
+    } else if (actual instanceof List && expected instanceof List) {
+      return actual.size() == expected.size() && (0..<actual.size()).every {
+        same(actual[it], expected[it])
+      }
+    } else if (actual == null || expected == null) {
+      return actual == null && expected == null
+    }
+
+    return actual.class == expected.class && actual.equals(expected)
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.transport
+
+import static java.nio.charset.StandardCharsets.UTF_8
+
+import java.nio.ByteBuffer
+import org.json.simple.JSONValue
+import org.json.simple.parser.JSONParser
+import spock.lang.Specification
+
+class JsonCodecTest extends Specification {
+
+  def "A JsonWriter writes #value like json-simple"() {
+    given:
+    // json-simple writes strings, that are sent as UTF-8 to mosaik
+    def expected = parse(wire(JSONValue.toJSONString(value)))
+
+    expect:
+    same(parse(write(value)), expected)
+    same(read(write(value)), expected)
+
+    where:
+    value << [
+      // strings
+      "plain",
+      'quote " backslash \\ slash /',
+      "control \b\f\n\r\t \u0000 \u001f \u007f \u0080 \u009f",
+      "umlaut äöü euro € separators \u2028 \u2029",
+      "emoji 😀 at the end 😀",
+      // an unpaired surrogate is replaced, but not the character after it
+      "unpaired high \ud800A",
+      "unpaired high \ud800𐀀",
+      "unpaired low \udc00A",
+      "unpaired high at the end \ud800",
+      "",
+      // numbers
+      0L,
+      -1L,
+      Long.MAX_VALUE,
+      Long.MIN_VALUE,
+      42,
+      0d,
+      -0d,
+      1.5d,
+      -2.25d,
+      0.1d,
+      1e-300d,
+      1e300d,
+      1.2345678901234567e19d,
+      Double.MIN_VALUE,
+      Double.MAX_VALUE,
+      1.1f,
+      // no numbers in json, so json-simple writes null
+      Double.NaN,
+      Double.POSITIVE_INFINITY,
+      Double.NEGATIVE_INFINITY,
+      Float.NaN,
+      // other values
+      true,
+      false,
+      null,
+      // messages
+      [],
+      [:],
+      [1L, 2.5d, null, true, "x", [], [:]],
+      ["a": ["P[MW]": 1.5d, "Q[MVAr]": -0d], "b": ["u[pu]": Double.NaN], "c\n": [[1L], ["d": []]]],
+      [0L, "step", [900L, ["sim-0.load_1": ["P[MW]": ["src-0.x": 0.001d]]], 1800L]]
+    ]
+  }
+
+  def "A JsonReader parses #json like json-simple"() {
+    expect:
+    same(read(json), parse(json))
+
+    where:
+    json << [
+      // escapes
+      '"\\" \\\\ \\/ \\b \\f \\n \\r \\t"',
+      '"\\u00e4\\u00F6 \\u20ac \\u0000 \\u001f"',
+      '"\\ud83d\\ude00 \\uD83D\\uDE00"',
+      '"\\ud800A \\udc00A \\ud800"',
+      '"äöü € 😀"',
+      // integers
+      '0',
+      '-0',
+      '42',
+      '-42',
+      '123456789012345678',
+      '1234567890123456789',
+      '9223372036854775807',
+      '-9223372036854775808',
+      // decimals
+      '0.0',
+      '-0.0',
+      '1.5',
+      '-2.25',
+      '0.1',
+      '0.30000000000000004',
+      '0.1234567890123456789012345',
+      '12345678901234567890.5',
+      '1.7976931348623157E308',
+      '4.9E-324',
+      // exponents
+      '1E2',
+      '1e+2',
+      '2.5e-3',
+      '-0e5',
+      '1e308',
+      '1e400',
+      '-1e400',
+      '1e-400',
+      '123456789e-330',
+      // other values and messages
+      'true',
+      'false',
+      'null',
+      ' [ 1 , 2.0 , "3" ] ',
+      '{}',
+      '[]',
+      '{"a": {"b": [1, 2.5, -0.0, null, true, false, "c"]}, "d": []}',
+      '[0, "step", [900, {"sim-0.load_1": {"P[MW]": {"src-0.x": 1e-3}}}, 1800]]'
+    ]
+  }
+
+  def "A JsonReader parses integers beyond the range of long as double"() {
+    when:
+    def value = read(json)
+
+    then:
+    value instanceof Double
+    value == expected
+
+    where:
+    json                    || expected
+    "9223372036854775808"   || 9.223372036854775808e18d
+    "12345678901234567890"  || 1.2345678901234567e19d
+    "-12345678901234567890" || -1.2345678901234567e19d
+  }
+
+  def "A JsonReader rejects the invalid json #json"() {
+    when:
+    read(json)
+
+    then:
+    thrown(IOException)
+
+    where:
+    json << [
+      '',
+      '{"a" 1}',
+      '{"a": 1',
+      '[1, 2',
+      '"unterminated',
+      '"\\x"',
+      '"\\u12"',
+      'tru',
+      '-',
+      '1 2'
+    ]
+  }
+
+  private static String write(Object value) {
+    // a small buffer, so the writer has to grow it
+    def writer = new JsonWriter(ByteBuffer.allocate(4))
+    writer.begin(0)
+    writer.write(value)
+    def buffer = writer.finish()
+
+    byte[] bytes = new byte[buffer.remaining()]
+    buffer.get(bytes)
+    return new String(bytes, UTF_8)
+  }
+
+  private static Object read(String json) {
+    return new JsonReader().parse(ByteBuffer.wrap(json.getBytes(UTF_8)))
+  }
+
+  private static Object parse(String json) {
+    return new JSONParser().parse(json)
+  }
+
+  /** Returns the given string after it was sent as UTF-8, which replaces unpaired surrogates. */
+  private static String wire(String value) {
+    return new String(value.getBytes(UTF_8), UTF_8)
+  }
+
+  /**
+   * Returns true, if both values are equal and of the same type. Unlike Groovy's equality, this
+   * distinguishes between Long and Double as well as between 0.0 and -0.0.
+   */
+  private static boolean same(Object actual, Object expected) {
+    if (actual instanceof Map && expected instanceof Map) {
+      return actual.size() == expected.size() && actual.every { key, value ->
+        expected.containsKey(key) && same(value, expected[key])
+      }
+    } else if (actual instanceof List && expected instanceof List) {
+      return actual.size() == expected.size() && (0..<actual.size()).every {
+        same(actual[it], expected[it])
+      }
+    } else if (actual == null || expected == null) {
+      return actual == null && expected == null
+    }
+
+    return actual.class == expected.class && actual.equals(expected)
+  }
+}
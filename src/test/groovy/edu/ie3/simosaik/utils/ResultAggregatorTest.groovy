@@ -0,0 +1,151 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils
+
+import static edu.ie3.simosaik.ResultAttribute.*
+
+import edu.ie3.datamodel.models.result.ResultEntity
+import edu.ie3.datamodel.models.result.system.LoadResult
+import edu.ie3.simona.api.mapping.DataType
+import edu.ie3.simona.api.mapping.ExtEntityEntry
+import edu.ie3.simona.api.mapping.ExtEntityMapping
+import edu.ie3.util.quantities.PowerSystemUnits
+import java.time.ZonedDateTime
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+
+class ResultAggregatorTest extends Specification {
+  private static final String START = "2020-01-01T00:00:00Z"
+  private static final UUID LOAD = UUID.fromString("c5d8bc2b-9d54-4fb7-a1a7-a1b2bc6fc6a2")
+
+  // exchanges with mosaik are every 900 seconds
+  private static final long WINDOW = 900L
+
+  def "A ResultAggregator aggregates the #mode of the results of each window"() {
+    given:
+    def buffer = buffer(["P[MW]": mode])
+
+    when:
+    buffer.fill(results(first), WINDOW)
+    double firstValue = buffer.get(0, attribute)
+    buffer.fill(results(second), 2 * WINDOW)
+    double secondValue = buffer.get(0, attribute)
+
+    then:
+    Math.abs(firstValue - expectedFirst) < 1e-12
+    Math.abs(secondValue - expectedSecond) < 1e-12
+
+    where:
+    mode     | attribute     | first                              | second                    || expectedFirst | expectedSecond
+    // one result, that is carried into the next window
+    "mean"   | ACTIVE_POWER  | [[0L, 2d]]                         | []                        || 2d            | 2d
+    "min"    | ACTIVE_POWER  | [[0L, 2d]]                         | []                        || 2d            | 2d
+    "max"    | ACTIVE_POWER  | [[0L, 2d]]                         | []                        || 2d            | 2d
+    "energy" | ACTIVE_ENERGY | [[0L, 2d]]                         | []                        || 0.5d          | 0.5d
+    // several results
+    "mean"   | ACTIVE_POWER  | [[0L, 2d], [300L, 4d], [600L, 1d]] | []                        || 7d / 3d       | 1d
+    "min"    | ACTIVE_POWER  | [[0L, 2d], [300L, 4d], [600L, 1d]] | []                        || 1d            | 1d
+    "max"    | ACTIVE_POWER  | [[0L, 2d], [300L, 4d], [600L, 1d]] | []                        || 4d            | 1d
+    "energy" | ACTIVE_ENERGY | [[0L, 2d], [300L, 4d], [600L, 1d]] | []                        || 2100d / 3600d | 0.25d
+    // the carried value is replaced by a result at the start of the window
+    "mean"   | ACTIVE_POWER  | [[0L, 2d]]                         | [[900L, 4d], [1350L, 1d]] || 2d            | 2.5d
+    "min"    | ACTIVE_POWER  | [[0L, 2d]]                         | [[900L, 4d], [1350L, 1d]] || 2d            | 1d
+    "max"    | ACTIVE_POWER  | [[0L, 2d]]                         | [[900L, 4d], [1350L, 1d]] || 2d            | 4d
+    "energy" | ACTIVE_ENERGY | [[0L, 2d]]                         | [[900L, 4d], [1350L, 1d]] || 0.5d          | 0.625d
+    // the carried value is held until the first result of the window
+    "mean"   | ACTIVE_POWER  | [[0L, 2d]]                         | [[1350L, 4d]]             || 2d            | 3d
+    "min"    | ACTIVE_POWER  | [[0L, 2d]]                         | [[1350L, 4d]]             || 2d            | 2d
+    "max"    | ACTIVE_POWER  | [[0L, 2d]]                         | [[1350L, 4d]]             || 2d            | 4d
+    "energy" | ACTIVE_ENERGY | [[0L, 2d]]                         | [[1350L, 4d]]             || 0.5d          | 0.75d
+    // the first result is late, so the entity is only aggregated from its first result on
+    "mean"   | ACTIVE_POWER  | [[450L, 2d]]                       | []                        || 2d            | 2d
+    "min"    | ACTIVE_POWER  | [[450L, 2d], [675L, 1d]]           | []                        || 1d            | 1d
+    "max"    | ACTIVE_POWER  | [[450L, 2d], [675L, 1d]]           | []                        || 2d            | 1d
+    "energy" | ACTIVE_ENERGY | [[450L, 2d]]                       | []                        || 0.25d         | 0.5d
+  }
+
+  def "A ResultAggregator sends no aggregate for an entity without any results"() {
+    given:
+    def buffer = buffer(["P[MW]": mode])
+
+    when:
+    buffer.fill([:], WINDOW)
+
+    then:
+    !buffer.has(0, ACTIVE_POWER)
+    !buffer.has(0, ACTIVE_ENERGY)
+    buffer.entityCount() == 0
+
+    where:
+    mode << ["mean", "min", "max", "energy"]
+  }
+
+  def "A ResultAggregator sends the energy under its own attribute and the power as its last value"() {
+    given:
+    def buffer = buffer(["P[MW]": "energy", "Q[MVAr]": "energy"])
+
+    when:
+    buffer.fill(results([[0L, 2d], [300L, 4d]]), WINDOW)
+
+    then:
+    Math.abs(buffer.get(0, ACTIVE_POWER) - 4d) < 1e-12
+    Math.abs(buffer.get(0, ACTIVE_ENERGY) - 3000d / 3600d) < 1e-12
+    Math.abs(buffer.get(0, REACTIVE_POWER) - 0.4d) < 1e-12
+    Math.abs(buffer.get(0, REACTIVE_ENERGY) - 300d / 3600d) < 1e-12
+    !buffer.has(0, THERMAL_ENERGY)
+  }
+
+  def "A ResultAggregator rejects the aggregation of #attribute with mode #mode"() {
+    when:
+    ResultAggregator.parse([(attribute): mode], START)
+
+    then:
+    thrown(IllegalArgumentException)
+
+    where:
+    attribute    | mode
+    "u[pu]"      | "energy"
+    "SOC[%]"     | "energy"
+    "E[MWh]"     | "mean"
+    "E[MVArh]"   | "last"
+    "Congestion" | "max"
+    "P[MW]"      | "median"
+  }
+
+  /** Returns a buffer for one load, that aggregates the results with the given modes. */
+  private static ResultBuffer buffer(Map<String, Object> modes) {
+    def mapping = new ExtEntityMapping([
+      new ExtEntityEntry(LOAD, "load", Optional.empty(), DataType.RESULT)
+    ])
+
+    def buffer = new ResultBuffer(EntityIndex.build(mapping, [:]))
+    buffer.setAggregator(ResultAggregator.parse(modes, START))
+    return buffer
+  }
+
+  /**
+   * Returns load results for the given pairs of seconds since the start and active power in MW.
+   * The reactive power is a tenth of the active power.
+   */
+  private static Map<UUID, List<ResultEntity>> results(List<List> values) {
+    if (values.isEmpty()) {
+      return [:]
+    }
+
+    def start = ZonedDateTime.parse(START)
+
+    List<ResultEntity> results = values.collect { value ->
+      new LoadResult(
+          start.plusSeconds(value[0] as long),
+          LOAD,
+          Quantities.getQuantity(value[1] as double, PowerSystemUnits.MEGAWATT),
+          Quantities.getQuantity(0.1d * (value[1] as double), PowerSystemUnits.MEGAVAR))
+    }
+
+    return [(LOAD): results]
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.utils
+
+import edu.ie3.util.quantities.PowerSystemUnits
+import javax.measure.MetricPrefix
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+import tech.units.indriya.unit.Units
+
+class ScalarConverterTest extends Specification {
+
+  def "A ScalarConverter converts #source into #target like indriya within one ulp"() {
+    given:
+    def converter = new ScalarConverter<>(target)
+
+    expect:
+    values().each { value ->
+      def quantity = Quantities.getQuantity(value, source)
+      double expected = quantity.to(target).value.doubleValue()
+      double actual = converter.convert(quantity)
+
+      assert Math.abs(actual - expected) <= Math.ulp(expected)
+    }
+
+    where:
+    source                        | target
+    PowerSystemUnits.KILOWATT     | PowerSystemUnits.MEGAWATT
+    Units.WATT                    | PowerSystemUnits.MEGAWATT
+    MetricPrefix.GIGA(Units.WATT) | PowerSystemUnits.MEGAWATT
+    PowerSystemUnits.KILOVAR      | PowerSystemUnits.MEGAVAR
+    PowerSystemUnits.PU           | PowerSystemUnits.PERCENT
+    PowerSystemUnits.PERCENT      | PowerSystemUnits.PU
+    Units.CELSIUS                 | Units.KELVIN
+  }
+
+  def "A ScalarConverter returns values in the target unit unchanged"() {
+    given:
+    def converter = new ScalarConverter<>(PowerSystemUnits.MEGAWATT)
+
+    expect:
+    converter.convert(value, PowerSystemUnits.MEGAWATT) == value
+
+    where:
+    value << [0d, -1d, 0.1d, 123.456d, Double.MIN_VALUE, Double.MAX_VALUE]
+  }
+
+  def "A ScalarConverter converts celsius close to absolute zero like indriya"() {
+    given:
+    def converter = new ScalarConverter<>(Units.KELVIN)
+    def quantity = Quantities.getQuantity(value, Units.CELSIUS)
+
+    expect:
+    converter.convert(quantity) == quantity.to(Units.KELVIN).value.doubleValue()
+
+    where:
+    value << [-273.15d, -272.15d, -222.92150992586335d, -280.548828493975d]
+  }
+
+  /** Returns some edge cases and random values over several orders of magnitude. */
+  private static List<Double> values() {
+    def random = new Random(42)
+    List<Double> values = [
+      0d,
+      1d,
+      -1d,
+      0.1d,
+      123.456d,
+      -9876.54321d,
+      1e-9d,
+      4.2e7d,
+      -273.15d
+    ]
+
+    10_000.times {
+      values << (random.nextDouble() - 0.5d) * Math.pow(10d, random.nextInt(12) - 4)
+    }
+
+    return values
+  }
+}
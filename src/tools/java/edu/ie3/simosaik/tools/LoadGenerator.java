@@ -0,0 +1,434 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.tools;
+
+import static edu.ie3.simosaik.SimosaikUnits.*;
+
+import edu.ie3.datamodel.models.result.ResultEntity;
+import edu.ie3.simona.api.data.container.ExtOutputContainer;
+import edu.ie3.simona.api.mapping.ExtEntityMapping;
+import edu.ie3.simona.api.simulation.ExtCoSimFramework;
+import edu.ie3.simosaik.MosaikSimulator;
+import edu.ie3.simosaik.SimonaEntity;
+import edu.ie3.simosaik.benchmark.BenchmarkData;
+import edu.ie3.simosaik.transport.NioChannel;
+import edu.ie3.simosaik.transport.Transport;
+import java.io.IOException;
+import java.net.*;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local stand-in for the mosaik master, that can be used to load test simosaik without mosaik. The
+ * generator listens for simosaik on a local port and speaks the mosaik socket protocol. It creates
+ * the configured number of primary, em and result entities and steps through the configured ticks
+ * with synthetic inputs. At the end, the number of messages per second and the percentiles of the
+ * tick latency are reported.
+ *
+ * <p>The generator listens either on a tcp port or on a unix domain socket. Simosaik can either be
+ * started by SIMONA with {@code --ext-address} pointing to the generator or in-process together
+ * with a stub of the SIMONA side, that answers each tick with synthetic results for all result
+ * entities.
+ */
+public final class LoadGenerator {
+  private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+
+  private static final String SID = "SimonaPowerGrid-0";
+  private static final String SOURCE = "LoadGenerator-0.Source";
+
+  private final Config config;
+
+  public LoadGenerator(Config config) {
+    this.config = config;
+  }
+
+  public static void main(String[] args) throws Exception {
+    new LoadGenerator(Config.parse(args)).run();
+  }
+
+  /**
+   * Waits for simosaik and runs the load test.
+   *
+   * @return the report of the load test
+   * @throws Exception if the load test fails
+   */
+  public Report run() throws Exception {
+    if (config.unix().isPresent()) {
+      Path path = config.unix().get();
+      Files.deleteIfExists(path);
+
+      try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+        server.bind(UnixDomainSocketAddress.of(path), 1);
+        return accept(server, NioChannel.UNIX_PREFIX + path);
+      } finally {
+        Files.deleteIfExists(path);
+      }
+    }
+
+    try (ServerSocketChannel server = ServerSocketChannel.open()) {
+      server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), config.port()), 1);
+      InetSocketAddress local = (InetSocketAddress) server.getLocalAddress();
+      return accept(server, local.getAddress().getHostAddress() + ":" + local.getPort());
+    }
+  }
+
+  private Report accept(ServerSocketChannel server, String address) throws Exception {
+    log.info("Waiting for simosaik at: {}", address);
+
+    Iterator<UUID> uuids = uuids();
+
+    Map<String, String> primary = entities(config.primary(), "Primary", uuids);
+    Map<String, String> em = entities(config.em(), "Em", uuids);
+    Map<String, String> results = entities(config.results(), "Result", uuids);
+
+    if (config.inProcess()) {
+      startInProcess(address, results.keySet());
+    }
+
+    try (SocketChannel channel = server.accept();
+        MosaikMaster master = new MosaikMaster(channel)) {
+      if (config.unix().isEmpty()) {
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+      }
+
+      return drive(master, primary, em, results);
+    }
+  }
+
+  private Report drive(
+      MosaikMaster master,
+      Map<String, String> primary,
+      Map<String, String> em,
+      Map<String, String> results)
+      throws IOException {
+    long lastTick = config.ticks() * config.stepSize();
+
+    // init
+    List<String> models = new ArrayList<>();
+    if (!primary.isEmpty()) models.add(config.primaryModel().name);
+    if (!em.isEmpty()) models.add(SimonaEntity.EM.name);
+    if (!results.isEmpty()) models.add(SimonaEntity.RESULTS.name);
+
+    Map<String, Object> simParams = new HashMap<>();
+    simParams.put("time_resolution", 1d);
+    simParams.put("step_size", config.stepSize());
+    simParams.put("last_tick", lastTick);
+    simParams.put("models", models);
+    master.call("init", List.of(SID), simParams);
+
+    // create
+    create(master, primary, config.primaryModel());
+    create(master, em, SimonaEntity.EM);
+    create(master, results, SimonaEntity.RESULTS);
+
+    master.call("setup_done", List.of(), Map.of());
+
+    // request for all result entities
+    Map<String, Object> outputs = new HashMap<>();
+    results.values().forEach(id -> outputs.put(id, config.resultAttributes()));
+
+    long[] latencies = new long[Math.toIntExact(config.ticks())];
+    long messagesBefore = master.messages();
+    long start = System.nanoTime();
+
+    for (int tick = 0; tick < latencies.length; tick++) {
+      long time = tick * config.stepSize();
+      Map<String, Object> inputs = inputs(primary.values(), em.values(), tick);
+
+      long tickStart = System.nanoTime();
+      master.call("step", List.of(time, inputs, lastTick), Map.of());
+      master.call("get_data", List.of(outputs), Map.of());
+      latencies[tick] = System.nanoTime() - tickStart;
+    }
+
+    Report report =
+        new Report(latencies, master.messages() - messagesBefore, System.nanoTime() - start);
+    log.info("Load test finished: {}", report);
+
+    // the simulator does not reply to a stop request
+    master.send("stop", List.of(), Map.of());
+    return report;
+  }
+
+  private void create(MosaikMaster master, Map<String, String> entities, SimonaEntity model)
+      throws IOException {
+    if (!entities.isEmpty()) {
+      Map<String, Object> use = new HashMap<>(entities);
+      master.call("create", List.of(entities.size(), model.name), Map.of("use", use));
+    }
+  }
+
+  /** Synthetic inputs, that change every tick. */
+  private Map<String, Object> inputs(Collection<String> primary, Collection<String> em, int tick) {
+    Map<String, Object> inputs = HashMap.newHashMap(primary.size() + em.size());
+    int i = 0;
+
+    for (String id : primary) {
+      double p = 0.01 * (1 + Math.sin(0.1 * tick + i++));
+
+      Map<String, Object> data = new HashMap<>();
+      data.put(ACTIVE_POWER, Map.of(SOURCE, p));
+
+      switch (config.primaryModel()) {
+        case PRIMARY_PQ -> data.put(REACTIVE_POWER, Map.of(SOURCE, 0.3 * p));
+        case PRIMARY_PH -> data.put(THERMAL_POWER, Map.of(SOURCE, 2 * p));
+        case PRIMARY_PQH -> {
+          data.put(REACTIVE_POWER, Map.of(SOURCE, 0.3 * p));
+          data.put(THERMAL_POWER, Map.of(SOURCE, 2 * p));
+        }
+        default -> {}
+      }
+
+      inputs.put(id, data);
+    }
+
+    for (String id : em) {
+      double p = 0.01 * Math.cos(0.1 * tick + i++);
+      inputs.put(id, Map.of(FLEX_SET_POINT, Map.of(SOURCE, Map.of(ACTIVE_POWER, p))));
+    }
+
+    return inputs;
+  }
+
+  /** Returns a map: uuid to id for the given number of entities. */
+  private static Map<String, String> entities(int count, String prefix, Iterator<UUID> uuids) {
+    Map<String, String> entities = new LinkedHashMap<>();
+
+    for (int i = 0; i < count; i++) {
+      if (!uuids.hasNext()) {
+        throw new IllegalArgumentException("Not enough uuids for all entities!");
+      }
+
+      entities.put(uuids.next().toString(), prefix + "_" + i);
+    }
+
+    return entities;
+  }
+
+  private Iterator<UUID> uuids() throws IOException {
+    if (config.uuids().isPresent()) {
+      try (var lines = Files.lines(config.uuids().get())) {
+        return lines
+            .map(String::trim)
+            .filter(l -> !l.isEmpty())
+            .map(UUID::fromString)
+            .toList()
+            .iterator();
+      }
+    }
+
+    // synthetic uuids, that are only known to the in-process stub
+    return new Iterator<>() {
+      private long next;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public UUID next() {
+        return new UUID(0L, next++);
+      }
+    };
+  }
+
+  /**
+   * Starts simosaik with a stub of the SIMONA side in this process.
+   *
+   * @param address of the generator
+   * @param resultEntities uuids of the result entities, for which the stub creates results
+   */
+  private void startInProcess(String address, Collection<String> resultEntities) {
+    List<UUID> resultUuids = resultEntities.stream().map(UUID::fromString).toList();
+
+    MosaikSimulator simulator = new MosaikSimulator(new ExtEntityMapping(List.of()), () -> {});
+    simulator.setInitDataQueue(new LinkedBlockingQueue<>());
+
+    Thread simosaik =
+        new Thread(
+            () -> {
+              try {
+                config.transport().start(new String[] {address}, simulator);
+              } catch (Exception e) {
+                log.error("Simosaik failed.", e);
+              }
+            },
+            "Simosaik");
+    simosaik.setDaemon(true);
+    simosaik.start();
+
+    Thread simona =
+        new Thread(
+            () -> {
+              long tick = 0L;
+              Random random = new Random(42);
+
+              try {
+                while (!Thread.currentThread().isInterrupted()) {
+                  if (simulator.getStatus(tick) instanceof ExtCoSimFramework.HasData) {
+                    ExtOutputContainer output =
+                        new ExtOutputContainer(tick, OptionalLong.of(tick + config.stepSize()));
+                    output.addResults(results(resultUuids, random));
+                    simulator.provideOutputData(output);
+                  } else {
+                    simulator.goToNextTick(tick);
+                  }
+
+                  tick += config.stepSize();
+                }
+              } catch (InterruptedException ignored) {
+              }
+            },
+            "Simona-Stub");
+    simona.setDaemon(true);
+    simona.start();
+  }
+
+  /**
+   * Creates new synthetic results for the given entities. Node results are created, if node
+   * attributes are requested, and load results otherwise. If both are requested, the entities
+   * alternate between nodes and loads.
+   */
+  private Map<UUID, List<ResultEntity>> results(List<UUID> uuids, Random random) {
+    List<String> nodeAttributes = List.of(VOLTAGE_MAG, VOLTAGE_ANG);
+    boolean nodes = config.resultAttributes().stream().anyMatch(nodeAttributes::contains);
+    boolean loads = !nodeAttributes.containsAll(config.resultAttributes());
+
+    Map<UUID, List<ResultEntity>> results = HashMap.newHashMap(uuids.size());
+
+    for (int i = 0; i < uuids.size(); i++) {
+      UUID uuid = uuids.get(i);
+      boolean node = nodes && (!loads || i % 2 == 0);
+      results.put(uuid, List.of(BenchmarkData.result(uuid, node, random)));
+    }
+
+    return results;
+  }
+
+  /**
+   * Configuration of the load generator.
+   *
+   * @param port to listen on, {@code 0} for any free port
+   * @param unix option for the path of a unix domain socket, that is used instead of the port
+   * @param primary number of primary entities
+   * @param primaryModel model of the primary entities
+   * @param em number of em entities, that receive set points
+   * @param results number of result entities
+   * @param resultAttributes attributes requested for each result entity
+   * @param stepSize step size in seconds
+   * @param ticks number of ticks
+   * @param inProcess if true, simosaik and a SIMONA stub are started in this process
+   * @param uuids option for a file with one uuid per line, that are used for the entities
+   * @param transport used by the in-process simosaik
+   */
+  public record Config(
+      int port,
+      Optional<Path> unix,
+      int primary,
+      SimonaEntity primaryModel,
+      int em,
+      int results,
+      List<String> resultAttributes,
+      long stepSize,
+      long ticks,
+      boolean inProcess,
+      Optional<Path> uuids,
+      Transport transport) {
+
+    /**
+     * Method for parsing the arguments of the load generator. All arguments are optional.
+     *
+     * @param args arguments in the form {@code --key=value}
+     * @return the configuration
+     */
+    public static Config parse(String[] args) {
+      Map<String, String> parsedArgs = new HashMap<>();
+
+      for (String arg : args) {
+        String[] key_value = arg.split("=", 2);
+        parsedArgs.put(key_value[0], key_value.length > 1 ? key_value[1] : "true");
+      }
+
+      Optional<Path> unix = Optional.ofNullable(parsedArgs.get("--unix")).map(Path::of);
+      Transport transport =
+          Transport.parse(parsedArgs.getOrDefault("--transport", Transport.MOSAIK_API.name));
+
+      if (unix.isPresent() && transport == Transport.MOSAIK_API) {
+        throw new IllegalArgumentException(
+            "Unix domain sockets are only supported by the transport 'simosaik'!");
+      }
+
+      return new Config(
+          Integer.parseInt(parsedArgs.getOrDefault("--port", "0")),
+          unix,
+          Integer.parseInt(parsedArgs.getOrDefault("--primary", "1000")),
+          SimonaEntity.parseType(parsedArgs.getOrDefault("--primary-model", "pq")),
+          Integer.parseInt(parsedArgs.getOrDefault("--em", "0")),
+          Integer.parseInt(parsedArgs.getOrDefault("--results", "1000")),
+          List.of(parsedArgs.getOrDefault("--result-attributes", "P[MW],Q[MVAr]").split(",")),
+          Long.parseLong(parsedArgs.getOrDefault("--step-size", "900")),
+          Long.parseLong(parsedArgs.getOrDefault("--ticks", "100")),
+          Boolean.parseBoolean(parsedArgs.getOrDefault("--in-process", "false")),
+          Optional.ofNullable(parsedArgs.get("--uuids")).map(Path::of),
+          transport);
+    }
+  }
+
+  /**
+   * Report of a load test.
+   *
+   * @param latencies duration of each tick, i.e. step and get data, in nanoseconds
+   * @param messages number of sent and received messages
+   * @param nanos duration of all ticks
+   */
+  public record Report(long[] latencies, long messages, long nanos) {
+
+    /** Returns the number of messages per second. */
+    public double messagesPerSecond() {
+      return nanos > 0 ? messages * 1e9 / nanos : 0d;
+    }
+
+    /**
+     * Returns the given percentile of the tick latency.
+     *
+     * @param percentile between 0 and 100
+     * @return the latency in milliseconds
+     */
+    public double percentileMillis(double percentile) {
+      if (latencies.length == 0) {
+        return 0d;
+      }
+
+      long[] sorted = latencies.clone();
+      Arrays.sort(sorted);
+
+      int rank = (int) Math.ceil(sorted.length * percentile / 100d);
+      return sorted[Math.max(rank - 1, 0)] / 1e6;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          Locale.ROOT,
+          "%d ticks, %.1f messages/s, tick latency p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, max %.3f"
+              + " ms",
+          latencies.length,
+          messagesPerSecond(),
+          percentileMillis(50),
+          percentileMillis(90),
+          percentileMillis(99),
+          percentileMillis(100));
+    }
+  }
+}
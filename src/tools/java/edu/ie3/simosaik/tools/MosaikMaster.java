@@ -0,0 +1,116 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+
+package edu.ie3.simosaik.tools;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * Master side of the mosaik socket protocol. Each message consists of its length as four byte big
+ * endian integer and a json array {@code [type, id, content]}. The content of a request is {@code
+ * [method, args, kwargs]}.
+ */
+final class MosaikMaster implements Closeable {
+  static final int REQUEST = 0;
+  static final int SUCCESS = 1;
+  static final int FAILURE = 2;
+
+  private final SocketChannel channel;
+  private final DataInputStream input;
+  private final DataOutputStream output;
+  private final JSONParser parser = new JSONParser();
+
+  private int nextId;
+  private long messages;
+
+  MosaikMaster(SocketChannel channel) {
+    this.channel = channel;
+    this.input =
+        new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+    this.output =
+        new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+  }
+
+  /** Returns the number of sent and received messages. */
+  long messages() {
+    return messages;
+  }
+
+  /**
+   * Calls a method of the simulator and waits for its reply.
+   *
+   * @param method of the simulator
+   * @param args positional arguments
+   * @param kwargs keyword arguments
+   * @return the content of the reply
+   * @throws IOException if the call fails
+   */
+  Object call(String method, List<Object> args, Map<String, Object> kwargs) throws IOException {
+    int id = send(method, args, kwargs);
+
+    List<?> reply = receive();
+    int type = ((Number) reply.get(0)).intValue();
+    int replyId = ((Number) reply.get(1)).intValue();
+
+    if (type == REQUEST) {
+      throw new IOException("Requests of the simulator are not supported: " + reply);
+    } else if (replyId != id) {
+      throw new IOException("Expected reply to message " + id + ", but got: " + replyId);
+    } else if (type == FAILURE) {
+      throw new IOException("Simulator failed to handle '" + method + "': " + reply.get(2));
+    }
+
+    return reply.get(2);
+  }
+
+  /**
+   * Sends a request without waiting for a reply.
+   *
+   * @param method of the simulator
+   * @param args positional arguments
+   * @param kwargs keyword arguments
+   * @return the id of the request
+   * @throws IOException if the request cannot be sent
+   */
+  int send(String method, List<Object> args, Map<String, Object> kwargs) throws IOException {
+    int id = nextId++;
+    byte[] payload =
+        JSONValue.toJSONString(List.of(REQUEST, id, List.of(method, args, kwargs)))
+            .getBytes(StandardCharsets.UTF_8);
+
+    output.writeInt(payload.length);
+    output.write(payload);
+    output.flush();
+    messages++;
+
+    return id;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private List<?> receive() throws IOException {
+    byte[] payload = new byte[input.readInt()];
+    input.readFully(payload);
+    messages++;
+
+    try {
+      return (List<?>) parser.parse(new String(payload, StandardCharsets.UTF_8));
+    } catch (ParseException e) {
+      throw new IOException("Could not parse message of the simulator!", e);
+    }
+  }
+}